@@ -0,0 +1,307 @@
+package com.application.cooperfilme.carga;
+
+import com.application.cooperfilme.CooperfilmeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GeradorCarga {
+
+    private static final String ENVIAR = "enviar";
+    private static final String CONSULTAR_STATUS = "consultar_status";
+    private static final String ASSUMIR_ANALISE = "assumir_analise";
+    private static final String ANALISAR = "analisar";
+    private static final String ASSUMIR_REVISAO = "assumir_revisao";
+    private static final String REVISAR = "revisar";
+    private static final String VOTAR = "votar";
+
+    private static final String SENHA = "carga-123456";
+
+    private final String baseUrl;
+    private final double taxa;
+    private final int segundosAquecimento;
+    private final int segundosMedicao;
+    private final int consultasPorSessao;
+    private final Path diretorioSaida;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MedidorCarga medidor = new MedidorCarga(
+            List.of(ENVIAR, CONSULTAR_STATUS, ASSUMIR_ANALISE, ANALISAR, ASSUMIR_REVISAO, REVISAR, VOTAR));
+    private final String execucao = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicInteger sessoesEmAndamento = new AtomicInteger();
+    private final LongAdder sessoesConcluidas = new LongAdder();
+    private final LongAdder sessoesComFalha = new LongAdder();
+
+    private Participante analista;
+    private Participante revisor;
+    private Participante primeiroAprovador;
+    private Participante segundoAprovador;
+
+    private record Participante(long id, String token) {
+    }
+
+    GeradorCarga(String baseUrl, double taxa, int segundosAquecimento, int segundosMedicao,
+                 int consultasPorSessao, Path diretorioSaida) {
+        this.baseUrl = baseUrl;
+        this.taxa = taxa;
+        this.segundosAquecimento = segundosAquecimento;
+        this.segundosMedicao = segundosMedicao;
+        this.consultasPorSessao = consultasPorSessao;
+        this.diretorioSaida = diretorioSaida;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.url", "");
+        ConfigurableApplicationContext contexto = null;
+        if (url.isBlank()) {
+            contexto = SpringApplication.run(CooperfilmeApplication.class,
+                    "--server.port=0",
+                    "--spring.profiles.active=dev",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN");
+            url = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            GeradorCarga gerador = new GeradorCarga(
+                    url,
+                    Double.parseDouble(System.getProperty("carga.taxa", "5")),
+                    Integer.parseInt(System.getProperty("carga.aquecimento", "10")),
+                    Integer.parseInt(System.getProperty("carga.duracao", "60")),
+                    Integer.parseInt(System.getProperty("carga.consultas", "3")),
+                    Path.of(System.getProperty("carga.saida", "target/carga")));
+            gerador.executar();
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+    }
+
+    void executar() throws Exception {
+        Files.createDirectories(diretorioSaida);
+        prepararParticipantes();
+
+        System.out.printf("Carga em %s: %.1f sessões/s, %ds de aquecimento, %ds de medição%n",
+                baseUrl, taxa, segundosAquecimento, segundosMedicao);
+
+        long periodoNanos = (long) (TimeUnit.SECONDS.toNanos(1) / taxa);
+        long inicio = System.nanoTime();
+        AtomicLong sequencia = new AtomicLong();
+        ScheduledExecutorService agendador = Executors.newScheduledThreadPool(2);
+
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(diretorioSaida.resolve("vazao.csv")))) {
+            medidor.escreverCabecalho(csv);
+
+            ScheduledFuture<?> chegadas = agendador.scheduleAtFixedRate(() -> {
+                long numero = sequencia.getAndIncrement();
+                iniciarSessao(numero, inicio + numero * periodoNanos);
+            }, 0, periodoNanos, TimeUnit.NANOSECONDS);
+
+            AtomicLong segundo = new AtomicLong();
+            ScheduledFuture<?> relatorio = agendador.scheduleAtFixedRate(() -> {
+                long atual = segundo.incrementAndGet();
+                medidor.fecharIntervalo(atual, csv);
+                if (atual == segundosAquecimento) {
+                    medidor.descartarAquecimento();
+                }
+            }, 1, 1, TimeUnit.SECONDS);
+
+            TimeUnit.SECONDS.sleep(segundosAquecimento + segundosMedicao);
+            chegadas.cancel(false);
+            aguardarSessoes(Duration.ofSeconds(30));
+            relatorio.cancel(false);
+            medidor.fecharIntervalo(segundo.incrementAndGet(), csv);
+        } finally {
+            agendador.shutdownNow();
+        }
+
+        System.out.printf("Sessões iniciadas: %d, concluídas: %d, com falha: %d%n",
+                sequencia.get(), sessoesConcluidas.sum(), sessoesComFalha.sum());
+        medidor.imprimirResumo(System.out, diretorioSaida, segundosMedicao);
+        System.out.println("Curvas de vazão em " + diretorioSaida.resolve("vazao.csv").toAbsolutePath());
+    }
+
+    private void iniciarSessao(long numero, long agendadoNanos) {
+        sessoesEmAndamento.incrementAndGet();
+        String email = "cliente-" + execucao + "-" + numero + "@carga.local";
+
+        enviar(numero, email, agendadoNanos)
+                .thenCompose(roteiroId -> consultarStatus(email, consultasPorSessao).thenApply(ignorado -> roteiroId))
+                .thenCompose(roteiroId -> fluxoCompleto(roteiroId).thenApply(ignorado -> roteiroId))
+                .thenCompose(roteiroId -> consultarStatus(email, 1))
+                .whenComplete((ignorado, erro) -> {
+                    if (erro == null) {
+                        sessoesConcluidas.increment();
+                    } else {
+                        sessoesComFalha.increment();
+                    }
+                    sessoesEmAndamento.decrementAndGet();
+                });
+    }
+
+    private CompletableFuture<Long> enviar(long numero, String email, long agendadoNanos) {
+        Map<String, Object> corpo = Map.of(
+                "titulo", "Roteiro de carga " + numero,
+                "conteudo", conteudoRoteiro(numero),
+                "clienteNome", "Cliente " + numero,
+                "clienteEmail", email,
+                "telefone", "11999999999");
+        return chamar(ENVIAR, post("/roteiros/enviar", null, corpo), agendadoNanos)
+                .thenApply(json -> json.get("id").asLong());
+    }
+
+    private CompletableFuture<Void> consultarStatus(String email, int vezes) {
+        CompletableFuture<Void> cadeia = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < vezes; i++) {
+            cadeia = cadeia.thenCompose(ignorado -> chamar(CONSULTAR_STATUS,
+                    get("/clientes/email/" + URLEncoder.encode(email, StandardCharsets.UTF_8)), System.nanoTime())
+                    .thenApply(json -> null));
+        }
+        return cadeia;
+    }
+
+    private CompletableFuture<JsonNode> fluxoCompleto(long roteiroId) {
+        return chamar(ASSUMIR_ANALISE, put("/roteiros/assumir-analise/" + roteiroId + "/" + analista.id(), analista.token(), null), System.nanoTime())
+                .thenCompose(r -> chamar(ANALISAR, put("/roteiros/analisar/" + roteiroId + "/" + analista.id(), analista.token(),
+                        Map.of("justificativa", "Apto para revisão", "apto", true)), System.nanoTime()))
+                .thenCompose(r -> chamar(ASSUMIR_REVISAO, put("/roteiros/assumir-revisao/" + roteiroId + "/" + revisor.id(), revisor.token(), null), System.nanoTime()))
+                .thenCompose(r -> chamar(REVISAR, put("/roteiros/revisar/" + roteiroId + "/" + revisor.id(), revisor.token(),
+                        Map.of("observacoes", "Revisado")), System.nanoTime()))
+                .thenCompose(r -> chamar(VOTAR, post("/roteiros/votar/" + roteiroId + "/" + primeiroAprovador.id(), primeiroAprovador.token(),
+                        Map.of("aprovado", true, "justificativa", "Aprovado")), System.nanoTime()))
+                .thenCompose(r -> chamar(VOTAR, post("/roteiros/votar/" + roteiroId + "/" + segundoAprovador.id(), segundoAprovador.token(),
+                        Map.of("aprovado", true, "justificativa", "Aprovado")), System.nanoTime()));
+    }
+
+    private CompletableFuture<JsonNode> chamar(String endpoint, HttpRequest requisicao, long inicioNanos) {
+        return http.sendAsync(requisicao, HttpResponse.BodyHandlers.ofString())
+                .handle((resposta, erro) -> {
+                    boolean sucesso = erro == null && resposta.statusCode() < 400;
+                    medidor.registrar(endpoint, inicioNanos, sucesso);
+                    if (!sucesso) {
+                        String motivo = erro != null ? erro.toString() : "HTTP " + resposta.statusCode();
+                        throw new CompletionException(new IllegalStateException(endpoint + ": " + motivo));
+                    }
+                    return lerJson(resposta.body());
+                });
+    }
+
+    private void prepararParticipantes() throws IOException, InterruptedException {
+        analista = cadastrarEEntrar("ANALISTA");
+        revisor = cadastrarEEntrar("REVISOR");
+        primeiroAprovador = cadastrarEEntrar("APROVADOR");
+        segundoAprovador = cadastrarEEntrar("APROVADOR");
+    }
+
+    private Participante cadastrarEEntrar(String cargo) throws IOException, InterruptedException {
+        String email = cargo.toLowerCase() + "-" + execucao + "-" + System.nanoTime() + "@carga.local";
+        http.send(post("/usuarios/cadastrar", null, Map.of(
+                "nome", "Carga " + cargo,
+                "email", email,
+                "senha", SENHA,
+                "confirmarSenha", SENHA,
+                "cargo", cargo)), HttpResponse.BodyHandlers.discarding());
+
+        HttpResponse<String> resposta = http.send(post("/usuarios/login", null, Map.of("email", email, "senha", SENHA)),
+                HttpResponse.BodyHandlers.ofString());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Falha ao autenticar " + cargo + ": HTTP " + resposta.statusCode());
+        }
+        JsonNode login = lerJson(resposta.body());
+        return new Participante(login.get("usuario").get("id").asLong(), login.get("token").asText());
+    }
+
+    private void aguardarSessoes(Duration limite) throws InterruptedException {
+        long prazo = System.nanoTime() + limite.toNanos();
+        while (sessoesEmAndamento.get() > 0 && System.nanoTime() < prazo) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String caminho, String token, Object corpo) {
+        return requisicao(caminho, token).POST(corpoJson(corpo)).build();
+    }
+
+    private HttpRequest put(String caminho, String token, Object corpo) {
+        return requisicao(caminho, token).PUT(corpoJson(corpo)).build();
+    }
+
+    private HttpRequest.Builder requisicao(String caminho, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher corpoJson(Object corpo) {
+        if (corpo == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode lerJson(String corpo) {
+        try {
+            return corpo == null || corpo.isBlank() ? objectMapper.nullNode() : objectMapper.readTree(corpo);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private String conteudoRoteiro(long numero) {
+        return """
+                INT. ESTÚDIO - DIA
+
+                Roteiro gerado para teste de carga número %d da execução %s.
+
+                MARIA
+                Precisamos terminar até amanhã.
+
+                JOÃO
+                Então vamos começar agora.
+                """.formatted(numero, execucao);
+    }
+}
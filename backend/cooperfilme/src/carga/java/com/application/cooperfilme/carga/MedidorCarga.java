@@ -0,0 +1,95 @@
+package com.application.cooperfilme.carga;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class MedidorCarga {
+
+    private static final long LATENCIA_MAXIMA_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final List<String> endpoints;
+    private final Map<String, Recorder> gravadores = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> erros = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> acumulados = new LinkedHashMap<>();
+    private final Map<String, Long> errosDescartados = new LinkedHashMap<>();
+
+    MedidorCarga(List<String> endpoints) {
+        this.endpoints = endpoints;
+        for (String endpoint : endpoints) {
+            gravadores.put(endpoint, new Recorder(LATENCIA_MAXIMA_MICROS, 3));
+            erros.put(endpoint, new LongAdder());
+            acumulados.put(endpoint, new Histogram(LATENCIA_MAXIMA_MICROS, 3));
+            errosDescartados.put(endpoint, 0L);
+        }
+    }
+
+    void registrar(String endpoint, long inicioNanos, boolean sucesso) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicioNanos);
+        gravadores.get(endpoint).recordValue(Math.min(Math.max(micros, 1), LATENCIA_MAXIMA_MICROS));
+        if (!sucesso) {
+            erros.get(endpoint).increment();
+        }
+    }
+
+    void escreverCabecalho(PrintWriter csv) {
+        csv.print("segundo");
+        for (String endpoint : endpoints) {
+            csv.print("," + endpoint + "_rps," + endpoint + "_p99_ms");
+        }
+        csv.println();
+    }
+
+    void fecharIntervalo(long segundo, PrintWriter csv) {
+        csv.print(segundo);
+        for (String endpoint : endpoints) {
+            Histogram intervalo = gravadores.get(endpoint).getIntervalHistogram();
+            acumulados.get(endpoint).add(intervalo);
+            csv.printf(",%d,%.2f", intervalo.getTotalCount(), intervalo.getValueAtPercentile(99) / 1000.0);
+        }
+        csv.println();
+        csv.flush();
+    }
+
+    void descartarAquecimento() {
+        for (String endpoint : endpoints) {
+            gravadores.get(endpoint).reset();
+            acumulados.get(endpoint).reset();
+            errosDescartados.put(endpoint, erros.get(endpoint).sum());
+        }
+    }
+
+    void imprimirResumo(PrintStream saida, Path diretorio, double segundosMedidos) throws IOException {
+        saida.printf("%-18s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "total", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (String endpoint : endpoints) {
+            Histogram histograma = acumulados.get(endpoint);
+            long falhas = erros.get(endpoint).sum() - errosDescartados.get(endpoint);
+            saida.printf("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    histograma.getTotalCount(),
+                    falhas,
+                    histograma.getTotalCount() / segundosMedidos,
+                    histograma.getValueAtPercentile(50) / 1000.0,
+                    histograma.getValueAtPercentile(90) / 1000.0,
+                    histograma.getValueAtPercentile(99) / 1000.0,
+                    histograma.getValueAtPercentile(99.9) / 1000.0,
+                    histograma.getMaxValue() / 1000.0);
+
+            try (PrintStream distribuicao = new PrintStream(Files.newOutputStream(diretorio.resolve(endpoint + ".hgrm")))) {
+                histograma.outputPercentileDistribution(distribuicao, 1000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.application.cooperfilme.inicializacao;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BenchmarkInicializacao {
+
+    private static final Duration TEMPO_MAXIMO = Duration.ofMinutes(2);
+
+    private record Modo(String nome, Path jar, List<String> opcoes) {
+    }
+
+    private record Medicao(long milissegundos, long rssKb) {
+    }
+
+    private final Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private final int repeticoes;
+    private final Path diretorioSaida;
+
+    BenchmarkInicializacao(int repeticoes, Path diretorioSaida) {
+        this.repeticoes = repeticoes;
+        this.diretorioSaida = diretorioSaida;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("inicializacao.jar"));
+        Path extraido = Path.of(System.getProperty("inicializacao.extraido"));
+        Path jarExtraido = extraido.resolve(jar.getFileName());
+        Path arquivoCds = extraido.resolve("aplicacao.jsa");
+
+        List<Modo> modos = new ArrayList<>();
+        modos.add(new Modo("jar", jar, List.of()));
+        modos.add(new Modo("extraido", jarExtraido, List.of()));
+        modos.add(new Modo("aot", jarExtraido, List.of("-Dspring.aot.enabled=true")));
+        modos.add(new Modo("aot-cds", jarExtraido,
+                List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + arquivoCds)));
+
+        BenchmarkInicializacao benchmark = new BenchmarkInicializacao(
+                Integer.parseInt(System.getProperty("inicializacao.repeticoes", "5")),
+                Path.of(System.getProperty("inicializacao.saida", "target/inicializacao")));
+        benchmark.executar(modos.stream()
+                .filter(modo -> Files.exists(modo.jar()))
+                .filter(modo -> !modo.nome().endsWith("cds") || Files.exists(arquivoCds))
+                .toList());
+    }
+
+    void executar(List<Modo> modos) throws Exception {
+        Files.createDirectories(diretorioSaida);
+        System.out.printf("%-10s %13s %13s %11s%n", "modo", "1a req (ms)", "mínimo (ms)", "RSS (MB)");
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(diretorioSaida.resolve("inicializacao.csv")))) {
+            csv.println("modo,execucao,primeira_requisicao_ms,rss_kb");
+            for (Modo modo : modos) {
+                long[] tempos = new long[repeticoes];
+                long[] memorias = new long[repeticoes];
+                for (int i = 0; i < repeticoes; i++) {
+                    Medicao medicao = medir(modo, i);
+                    tempos[i] = medicao.milissegundos();
+                    memorias[i] = medicao.rssKb();
+                    csv.printf("%s,%d,%d,%d%n", modo.nome(), i, medicao.milissegundos(), medicao.rssKb());
+                }
+                System.out.printf("%-10s %13d %13d %11.1f%n",
+                        modo.nome(), mediana(tempos), Arrays.stream(tempos).min().orElse(0), mediana(memorias) / 1024.0);
+            }
+        }
+        System.out.println("Medições em " + diretorioSaida.resolve("inicializacao.csv").toAbsolutePath());
+    }
+
+    private Medicao medir(Modo modo, int execucao) throws Exception {
+        int porta = portaLivre();
+        int portaGerenciamento = portaLivre();
+        List<String> comando = new ArrayList<>();
+        comando.add(java.toString());
+        comando.addAll(modo.opcoes());
+        comando.addAll(List.of("-jar", modo.jar().toString(), "--server.port=" + porta,
+                "--management.server.port=" + portaGerenciamento, "--logging.level.root=WARN"));
+
+        HttpRequest saude = HttpRequest.newBuilder(URI.create("http://localhost:" + portaGerenciamento + "/actuator/health"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(comando)
+                .redirectErrorStream(true)
+                .redirectOutput(diretorioSaida.resolve(modo.nome() + "-" + execucao + ".log").toFile())
+                .start();
+        try {
+            while (!respondeu(saude)) {
+                if (!processo.isAlive()) {
+                    throw new IllegalStateException("Aplicação encerrou durante a inicialização no modo " + modo.nome());
+                }
+                if (System.nanoTime() - inicio > TEMPO_MAXIMO.toNanos()) {
+                    throw new IllegalStateException("Aplicação não respondeu em " + TEMPO_MAXIMO + " no modo " + modo.nome());
+                }
+                Thread.sleep(5);
+            }
+            long milissegundos = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            return new Medicao(milissegundos, rssKb(processo.pid()));
+        } finally {
+            processo.destroy();
+            if (!processo.waitFor(30, TimeUnit.SECONDS)) {
+                processo.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean respondeu(HttpRequest requisicao) throws InterruptedException {
+        try {
+            return http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private long rssKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            for (String linha : Files.readAllLines(status)) {
+                if (linha.startsWith("VmRSS:")) {
+                    return Long.parseLong(linha.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String saida = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return saida.isEmpty() ? 0 : Long.parseLong(saida);
+    }
+
+    private static int portaLivre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long mediana(long[] valores) {
+        long[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2];
+    }
+}
@@ -0,0 +1,42 @@
+package com.application.cooperfilme.benchmark;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.entity.Cliente;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.model.entity.Votacao;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Usuario usuario(long id, Cargo cargo) {
+        Usuario usuario = new Usuario("Usuário " + id, "usuario" + id + "@cooperfilme.com", "senha", cargo);
+        ReflectionTestUtils.setField(usuario, "id", id);
+        return usuario;
+    }
+
+    static Cliente cliente() {
+        Cliente cliente = new Cliente("Cliente", "cliente@exemplo.com", "11999999999");
+        cliente.setId(1L);
+        return cliente;
+    }
+
+    static Roteiro roteiro(StatusRoteiro status, int votos, int caracteresConteudo) {
+        Roteiro roteiro = new Roteiro("Roteiro de referência", "A".repeat(caracteresConteudo), cliente());
+        ReflectionTestUtils.setField(roteiro, "id", 1L);
+        roteiro.setStatus(status);
+        roteiro.setDataEnvio(LocalDateTime.of(2025, 1, 1, 12, 0));
+        for (int i = 0; i < votos; i++) {
+            Votacao votacao = new Votacao(roteiro, usuario(100 + i, Cargo.APROVADOR), i % 5 != 0, "Justificativa " + i);
+            votacao.setId((long) i);
+            roteiro.getVotacoes().add(votacao);
+        }
+        return roteiro;
+    }
+}
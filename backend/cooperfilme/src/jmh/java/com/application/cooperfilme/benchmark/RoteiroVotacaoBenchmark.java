@@ -0,0 +1,62 @@
+package com.application.cooperfilme.benchmark;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoteiroVotacaoBenchmark {
+
+    @Param({"0", "2", "10", "100"})
+    private int votos;
+
+    private Roteiro roteiro;
+    private Usuario aprovadorNovo;
+    private Usuario aprovadorQueJaVotou;
+
+    @Setup
+    public void preparar() {
+        roteiro = Fixtures.roteiro(StatusRoteiro.EM_APROVACAO, votos, 1_000);
+        aprovadorNovo = Fixtures.usuario(1, Cargo.APROVADOR);
+        aprovadorQueJaVotou = votos > 0 ? roteiro.getVotacoes().get(votos - 1).getAprovador() : aprovadorNovo;
+    }
+
+    @Benchmark
+    public boolean podeReceberVotoDeNovoAprovador() {
+        return roteiro.podeReceberVotoDe(aprovadorNovo);
+    }
+
+    @Benchmark
+    public boolean podeReceberVotoDeQuemJaVotou() {
+        return roteiro.podeReceberVotoDe(aprovadorQueJaVotou);
+    }
+
+    @Benchmark
+    public long contarVotosAprovados() {
+        return roteiro.contarVotosAprovados();
+    }
+
+    @Benchmark
+    public long contarVotosReprovados() {
+        return roteiro.contarVotosReprovados();
+    }
+}
@@ -0,0 +1,57 @@
+package com.application.cooperfilme.benchmark;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.RoteiroRespostaDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoRoteiroBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int caracteresConteudo;
+
+    private ObjectMapper objectMapper;
+    private Roteiro roteiro;
+    private RoteiroRespostaDTO resposta;
+
+    @Setup
+    public void preparar() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        roteiro = Fixtures.roteiro(StatusRoteiro.EM_ANALISE, 2, caracteresConteudo);
+        resposta = new RoteiroRespostaDTO(roteiro.getId(), roteiro.getTitulo(), roteiro.getStatus().name(), roteiro.getDataEnvio());
+    }
+
+    @Benchmark
+    public byte[] serializarEntidade() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(roteiro);
+    }
+
+    @Benchmark
+    public byte[] serializarDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(resposta);
+    }
+}
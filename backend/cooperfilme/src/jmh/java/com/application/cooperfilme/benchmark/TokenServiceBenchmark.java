@@ -0,0 +1,52 @@
+package com.application.cooperfilme.benchmark;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.service.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        tokenService = new TokenService("AZTBDASDFGHJKLQWERTYUIOP1234567890");
+        usuario = new Usuario("Analista", "analista@cooperfilme.com", "senha", Cargo.ANALISTA);
+        token = tokenService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return tokenService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String validarToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String validarTokenInvalido() {
+        return tokenService.validateToken(token.substring(0, token.length() - 2) + "xx");
+    }
+}
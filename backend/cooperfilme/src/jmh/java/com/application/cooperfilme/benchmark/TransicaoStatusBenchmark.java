@@ -0,0 +1,55 @@
+package com.application.cooperfilme.benchmark;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransicaoStatusBenchmark {
+
+    @Param({"AGUARDANDO_ANALISE", "EM_ANALISE", "EM_REVISAO", "EM_APROVACAO"})
+    private StatusRoteiro status;
+
+    private Roteiro roteiro;
+    private Usuario analista;
+    private Usuario revisor;
+    private Usuario aprovador;
+
+    @Setup
+    public void preparar() {
+        analista = Fixtures.usuario(1, Cargo.ANALISTA);
+        revisor = Fixtures.usuario(2, Cargo.REVISOR);
+        aprovador = Fixtures.usuario(3, Cargo.APROVADOR);
+        roteiro = Fixtures.roteiro(status, 1, 1_000);
+        roteiro.setUsuarioResponsavel(status == StatusRoteiro.EM_REVISAO ? revisor : analista);
+    }
+
+    @Benchmark
+    public void verificarTodasAsTransicoes(Blackhole blackhole) {
+        blackhole.consume(roteiro.podeSerAssumidoPor(analista));
+        blackhole.consume(roteiro.podeSerAssumidoPor(revisor));
+        blackhole.consume(roteiro.podeSerAnalisadoPor(analista));
+        blackhole.consume(roteiro.podeSerRevisadoPor(revisor));
+        blackhole.consume(roteiro.podeReceberVotoDe(aprovador));
+    }
+}
@@ -1,13 +1,40 @@
 package com.application.cooperfilme;
 
+import com.application.cooperfilme.config.MigracaoConfig;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
 @SpringBootApplication
 public class CooperfilmeApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(CooperfilmeApplication.class, args);
+		if (migracao(args)) {
+			SpringApplication migracao = new SpringApplication(Migracao.class);
+			migracao.setWebApplicationType(WebApplicationType.NONE);
+			System.exit(SpringApplication.exit(migracao.run(args)));
+		}
+		SpringApplication aplicacao = new SpringApplication(CooperfilmeApplication.class);
+		aplicacao.setApplicationStartup(new BufferingApplicationStartup(4096));
+		aplicacao.run(args);
+	}
+
+	private static boolean migracao(String[] args) {
+		StandardEnvironment ambiente = new StandardEnvironment();
+		ambiente.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+		return ambiente.matchesProfiles("migracao");
+	}
+
+	@ImportAutoConfiguration({DataSourceAutoConfiguration.class, FlywayAutoConfiguration.class})
+	@Import(MigracaoConfig.class)
+	static class Migracao {
 	}
 
 }
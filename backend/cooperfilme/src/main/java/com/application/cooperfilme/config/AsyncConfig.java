@@ -0,0 +1,36 @@
+package com.application.cooperfilme.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+@Slf4j
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    @Bean(name = "processamentoExecutor")
+    public ThreadPoolTaskExecutor processamentoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("processamento-");
+        executor.setRejectedExecutionHandler((tarefa, pool) ->
+                log.warn("Fila de processamento cheia ({} tarefas); a tarefa será retomada pelo reprocessamento agendado",
+                        pool.getQueue().size()));
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool analiseForkJoinPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,83 @@
+package com.application.cooperfilme.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final String LEITURA = "leitura";
+    private static final String ESCRITA = "escrita";
+
+    @Bean
+    public ReplicasLeitura replicasLeitura(DataSourceProperties dataSourceProperties,
+                                           Environment environment,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${api.datasource.replicas.urls:}") List<String> urls,
+                                           @Value("${api.datasource.replicas.username:${spring.datasource.username}}") String usuario,
+                                           @Value("${api.datasource.replicas.password:${spring.datasource.password}}") String senha,
+                                           @Value("${api.datasource.replicas.atraso-maximo-ms:5000}") long atrasoMaximoMs) {
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String nome = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(usuario)
+                    .password(senha)
+                    .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName(nome);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(nome, replica);
+        }
+
+        return new ReplicasLeitura(primario, replicas, Duration.ofMillis(atrasoMaximoMs), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicasLeitura replicasLeitura) {
+        DataSource escrita = replicasLeitura.escrita();
+        if (!replicasLeitura.possuiReplicas()) {
+            return new LazyConnectionDataSourceProxy(escrita);
+        }
+        AbstractRoutingDataSource roteamento = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? LEITURA : ESCRITA;
+            }
+        };
+        roteamento.setTargetDataSources(Map.of(LEITURA, replicasLeitura, ESCRITA, escrita));
+        roteamento.setDefaultTargetDataSource(escrita);
+        roteamento.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+}
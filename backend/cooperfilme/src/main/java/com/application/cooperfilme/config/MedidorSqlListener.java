@@ -0,0 +1,84 @@
+package com.application.cooperfilme.config;
+
+import com.application.cooperfilme.service.EstatisticaConsultaService;
+import com.application.cooperfilme.web.monitoramento.EtapasRequisicao;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class MedidorSqlListener implements QueryExecutionListener {
+
+    private static final ThreadLocal<long[]> INICIO = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ObjectProvider<EstatisticaConsultaService> provedorEstatisticas;
+    private volatile EstatisticaConsultaService estatisticaConsultaService;
+
+    MedidorSqlListener(ObjectProvider<EstatisticaConsultaService> provedorEstatisticas) {
+        this.provedorEstatisticas = provedorEstatisticas;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        INICIO.get()[0] = System.nanoTime();
+        EtapasRequisicao etapas = EtapasRequisicao.atual();
+        if (etapas != null) {
+            etapas.iniciarSql();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - INICIO.get()[0];
+        EtapasRequisicao etapas = EtapasRequisicao.atual();
+        if (etapas != null) {
+            etapas.encerrarSql();
+        }
+
+        EstatisticaConsultaService estatisticas = estatisticas();
+        if (estatisticas == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (estatisticas.registrar(queryInfo.getQuery(), nanos)) {
+                estatisticas.registrarLenta(queryInfo.getQuery(), nanos, formaParametros(queryInfo));
+            }
+        }
+    }
+
+    private EstatisticaConsultaService estatisticas() {
+        EstatisticaConsultaService estatisticas = estatisticaConsultaService;
+        if (estatisticas == null) {
+            estatisticas = provedorEstatisticas.getIfAvailable();
+            estatisticaConsultaService = estatisticas;
+        }
+        return estatisticas;
+    }
+
+    private String formaParametros(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametros = queryInfo.getParametersList();
+        if (parametros.isEmpty()) {
+            return "()";
+        }
+        String forma = parametros.get(0).stream()
+                .map(this::tipo)
+                .collect(Collectors.joining(", ", "(", ")"));
+        return parametros.size() > 1 ? forma + " x" + parametros.size() : forma;
+    }
+
+    private String tipo(ParameterSetOperation operacao) {
+        String metodo = operacao.getMethod().getName();
+        if (metodo.equals("setNull")) {
+            return "null";
+        }
+        if (metodo.equals("setObject")) {
+            Object[] argumentos = operacao.getArgs();
+            return argumentos.length > 1 && argumentos[1] != null ? argumentos[1].getClass().getSimpleName() : "null";
+        }
+        return metodo.startsWith("set") ? metodo.substring(3) : metodo;
+    }
+}
@@ -0,0 +1,25 @@
+package com.application.cooperfilme.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class MigracaoConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${api.migracoes.somente-validar:true}") boolean somenteValidar) {
+        return flyway -> {
+            if (somenteValidar) {
+                flyway.validate();
+                log.info("Esquema validado na versão {}", flyway.info().current().getVersion());
+            } else {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.application.cooperfilme.config;
+
+import com.application.cooperfilme.service.EstatisticaConsultaService;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MonitoramentoJdbcConfig {
+
+    private static final String NOME_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor monitoramentoDataSourcePostProcessor(
+            ObjectProvider<EstatisticaConsultaService> estatisticaConsultaService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (NOME_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new MedidorSqlListener(estatisticaConsultaService))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
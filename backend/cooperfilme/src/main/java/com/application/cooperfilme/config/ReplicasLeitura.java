@@ -0,0 +1,179 @@
+package com.application.cooperfilme.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicasLeitura extends AbstractDataSource implements AutoCloseable {
+
+    static final String ESCRITA_NA_REQUISICAO = ReplicasLeitura.class.getName() + ".ESCRITA";
+
+    private static final String CONSULTA_ATRASO = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+
+    private final DataSource primario;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long atrasoMaximoMs;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final Counter leiturasReplica;
+    private final Counter leiturasPrimario;
+
+    private static final class Replica {
+        private final String nome;
+        private final DataSource fonte;
+        private volatile long atrasoMs;
+        private volatile boolean acessivel = true;
+
+        private Replica(String nome, DataSource fonte) {
+            this.nome = nome;
+            this.fonte = fonte;
+        }
+    }
+
+    public ReplicasLeitura(DataSource primario, Map<String, DataSource> replicas, Duration atrasoMaximo,
+                           MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.atrasoMaximoMs = atrasoMaximo.toMillis();
+        replicas.forEach((nome, fonte) -> {
+            Replica replica = new Replica(nome, fonte);
+            this.replicas.add(replica);
+            Gauge.builder("cooperfilme.datasource.replica.atraso", replica, r -> r.atrasoMs)
+                    .description("Atraso de replicação observado na réplica")
+                    .baseUnit("milliseconds")
+                    .tag("replica", nome)
+                    .register(meterRegistry);
+            Gauge.builder("cooperfilme.datasource.replica.disponivel", replica, r -> disponivel(r) ? 1 : 0)
+                    .description("Réplica acessível e dentro do atraso máximo")
+                    .tag("replica", nome)
+                    .register(meterRegistry);
+        });
+        this.leiturasReplica = Counter.builder("cooperfilme.datasource.leituras")
+                .description("Conexões somente leitura por destino")
+                .tag("destino", "replica")
+                .register(meterRegistry);
+        this.leiturasPrimario = Counter.builder("cooperfilme.datasource.leituras")
+                .description("Conexões somente leitura por destino")
+                .tag("destino", "primario")
+                .register(meterRegistry);
+    }
+
+    public boolean possuiReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    public DataSource escrita() {
+        return new DelegatingDataSource(primario) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    marcarEscrita();
+                }
+                return super.getConnection();
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicas.isEmpty() && !escritaNaRequisicao()) {
+            int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((inicio + i) % replicas.size());
+                if (!disponivel(replica)) {
+                    continue;
+                }
+                try {
+                    Connection conexao = replica.fonte.getConnection();
+                    leiturasReplica.increment();
+                    return conexao;
+                } catch (SQLException e) {
+                    replica.acessivel = false;
+                    log.warn("Réplica {} indisponível; leituras seguem para o primário até a próxima verificação", replica.nome, e);
+                }
+            }
+        }
+        leiturasPrimario.increment();
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credenciais são definidas por réplica");
+    }
+
+    @Scheduled(fixedDelayString = "${api.datasource.replicas.verificacao-ms:10000}")
+    public void verificarAtraso() {
+        for (Replica replica : replicas) {
+            try (Connection conexao = replica.fonte.getConnection();
+                 Statement consulta = conexao.createStatement();
+                 ResultSet resultado = consulta.executeQuery(CONSULTA_ATRASO)) {
+                resultado.next();
+                replica.atrasoMs = resultado.getLong(1);
+                if (!replica.acessivel) {
+                    log.info("Réplica {} acessível novamente", replica.nome);
+                }
+                replica.acessivel = true;
+                if (replica.atrasoMs > atrasoMaximoMs) {
+                    log.warn("Réplica {} com atraso de {} ms; leituras seguem para o primário", replica.nome, replica.atrasoMs);
+                }
+            } catch (SQLException e) {
+                replica.acessivel = false;
+                log.warn("Falha ao verificar atraso da réplica {}", replica.nome, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            fechar(replica.fonte);
+        }
+        fechar(primario);
+    }
+
+    private boolean disponivel(Replica replica) {
+        return replica.acessivel && replica.atrasoMs <= atrasoMaximoMs;
+    }
+
+    private void fechar(DataSource fonte) throws Exception {
+        if (fonte instanceof AutoCloseable fechavel) {
+            fechavel.close();
+        }
+    }
+
+    private static void marcarEscrita() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos != null) {
+            atributos.setAttribute(ESCRITA_NA_REQUISICAO, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean escritaNaRequisicao() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        return atributos != null && atributos.getAttribute(ESCRITA_NA_REQUISICAO, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.application.cooperfilme.config;
+
+import com.application.cooperfilme.web.monitoramento.TempoRequisicaoInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final TempoRequisicaoInterceptor tempoRequisicaoInterceptor;
+
+    public WebMvcConfig(TempoRequisicaoInterceptor tempoRequisicaoInterceptor) {
+        this.tempoRequisicaoInterceptor = tempoRequisicaoInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tempoRequisicaoInterceptor);
+    }
+}
@@ -0,0 +1,9 @@
+package com.application.cooperfilme.enums;
+
+public enum MotivoNegacao {
+    STATUS_INVALIDO,
+    CARGO_INVALIDO,
+    NAO_RESPONSAVEL,
+    VOTO_DUPLICADO,
+    NAO_INFORMADO
+}
@@ -0,0 +1,6 @@
+package com.application.cooperfilme.enums;
+
+public enum PoliticaDuplicidade {
+    REJEITAR,
+    VINCULAR
+}
@@ -0,0 +1,7 @@
+package com.application.cooperfilme.enums;
+
+public enum StatusProcessamento {
+    PENDENTE,
+    CONCLUIDO,
+    FALHOU
+}
@@ -0,0 +1,4 @@
+package com.application.cooperfilme.event;
+
+public record RoteiroEnviadoEvent(Long roteiroId) {
+}
@@ -0,0 +1,12 @@
+package com.application.cooperfilme.model.dto;
+
+import java.time.LocalDateTime;
+
+public record CartaoQuadroDTO(
+        Long id,
+        String titulo,
+        String clienteNome,
+        String responsavelNome,
+        LocalDateTime dataEnvio
+) {
+}
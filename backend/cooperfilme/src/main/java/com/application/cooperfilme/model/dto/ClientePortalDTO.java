@@ -0,0 +1,10 @@
+package com.application.cooperfilme.model.dto;
+
+import java.io.Serializable;
+
+public record ClientePortalDTO(
+        ClienteRespostaDTO cliente,
+        String etag,
+        long geracao
+) implements Serializable {
+}
@@ -1,5 +1,6 @@
 package com.application.cooperfilme.model.dto;
 
+import java.io.Serializable;
 import java.util.List;
 
 public record ClienteRespostaDTO(
@@ -8,5 +9,5 @@ public record ClienteRespostaDTO(
         String email,
         String telefone,
         List<RoteiroRespostaDTO> roteiros
-) {
+) implements Serializable {
 }
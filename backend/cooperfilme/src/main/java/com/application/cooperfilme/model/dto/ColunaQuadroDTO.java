@@ -0,0 +1,12 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+
+import java.util.List;
+
+public record ColunaQuadroDTO(
+        StatusRoteiro status,
+        long total,
+        List<CartaoQuadroDTO> cartoes
+) {
+}
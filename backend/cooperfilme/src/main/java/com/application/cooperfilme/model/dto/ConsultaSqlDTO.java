@@ -0,0 +1,15 @@
+package com.application.cooperfilme.model.dto;
+
+public record ConsultaSqlDTO(
+        String impressao,
+        long execucoes,
+        long lentas,
+        double totalMs,
+        double mediaMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maximoMs,
+        String formaParametros
+) {
+}
@@ -0,0 +1,13 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+
+import java.util.Map;
+
+public record ContadoresStatusDTO(
+        Map<StatusRoteiro, Long> quantidadePorStatus,
+        Map<StatusRoteiro, Long> entradasUltimoMinuto,
+        long transicoesUltimoMinuto,
+        double mediaTransicoesPorMinuto
+) {
+}
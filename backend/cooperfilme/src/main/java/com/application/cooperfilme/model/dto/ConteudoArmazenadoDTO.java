@@ -0,0 +1,7 @@
+package com.application.cooperfilme.model.dto;
+
+public record ConteudoArmazenadoDTO(
+        String hash,
+        long tamanho
+) {
+}
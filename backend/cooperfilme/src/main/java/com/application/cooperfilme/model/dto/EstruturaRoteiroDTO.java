@@ -0,0 +1,18 @@
+package com.application.cooperfilme.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record EstruturaRoteiroDTO(
+        Long roteiroId,
+        String status,
+        int cenas,
+        int personagens,
+        int transicoes,
+        int linhasDialogo,
+        long palavras,
+        int paginasEstimadas,
+        Map<String, Integer> falasPorPersonagem,
+        LocalDateTime dataProcessamento
+) {
+}
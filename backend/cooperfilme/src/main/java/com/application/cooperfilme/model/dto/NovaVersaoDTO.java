@@ -0,0 +1,15 @@
+package com.application.cooperfilme.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record NovaVersaoDTO(
+
+        @NotBlank(message = "Email do cliente é obrigatório")
+        String clienteEmail,
+
+        @NotBlank(message = "Conteúdo é obrigatório")
+        @Size(min = 10, message = "Conteúdo deve ter no mínimo 10 caracteres")
+        String conteudo
+) {
+}
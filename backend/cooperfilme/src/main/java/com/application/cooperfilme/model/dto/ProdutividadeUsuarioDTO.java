@@ -0,0 +1,15 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.Cargo;
+
+public record ProdutividadeUsuarioDTO(
+        Long usuarioId,
+        String nome,
+        Cargo cargo,
+        long itensEmPosse,
+        long concluidosSemana,
+        long concluidosTotal,
+        Double mediaSegundosAtendimento,
+        Double taxaAprovacao
+) {
+}
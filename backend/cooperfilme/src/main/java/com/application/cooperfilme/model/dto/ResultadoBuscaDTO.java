@@ -0,0 +1,10 @@
+package com.application.cooperfilme.model.dto;
+
+public record ResultadoBuscaDTO(
+        Long id,
+        String titulo,
+        String status,
+        double relevancia,
+        String trecho
+) {
+}
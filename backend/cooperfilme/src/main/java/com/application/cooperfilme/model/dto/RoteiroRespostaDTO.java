@@ -1,5 +1,6 @@
 package com.application.cooperfilme.model.dto;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record RoteiroRespostaDTO(
@@ -7,6 +8,6 @@ public record RoteiroRespostaDTO(
     String titulo,
     String status,
     LocalDateTime dataEnvio
-) {
+) implements Serializable {
 
 }
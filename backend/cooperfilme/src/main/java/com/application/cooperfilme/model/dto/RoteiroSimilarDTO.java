@@ -0,0 +1,9 @@
+package com.application.cooperfilme.model.dto;
+
+public record RoteiroSimilarDTO(
+        Long id,
+        String titulo,
+        String status,
+        double similaridade
+) {
+}
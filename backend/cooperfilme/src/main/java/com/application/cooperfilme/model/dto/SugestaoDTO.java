@@ -0,0 +1,10 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.TipoSugestao;
+
+public record SugestaoDTO(
+        TipoSugestao tipo,
+        Long id,
+        String texto
+) {
+}
@@ -0,0 +1,15 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+
+public record TempoEtapaDTO(
+        StatusRoteiro etapa,
+        long quantidade,
+        double mediaSegundos,
+        long p50Segundos,
+        long p90Segundos,
+        long p95Segundos,
+        long p99Segundos,
+        long maximoSegundos
+) {
+}
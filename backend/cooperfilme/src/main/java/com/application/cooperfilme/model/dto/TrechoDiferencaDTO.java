@@ -0,0 +1,12 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.TipoTrechoDiferenca;
+
+import java.util.List;
+
+public record TrechoDiferencaDTO(
+        TipoTrechoDiferenca tipo,
+        int quantidade,
+        List<String> linhas
+) {
+}
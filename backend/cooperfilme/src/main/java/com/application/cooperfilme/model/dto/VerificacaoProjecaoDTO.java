@@ -0,0 +1,10 @@
+package com.application.cooperfilme.model.dto;
+
+import java.util.List;
+
+public record VerificacaoProjecaoDTO(
+        boolean consistente,
+        int divergentes,
+        List<Long> roteiroIds
+) {
+}
@@ -0,0 +1,14 @@
+package com.application.cooperfilme.model.dto;
+
+import com.application.cooperfilme.enums.TipoVersao;
+
+import java.time.LocalDateTime;
+
+public record VersaoRoteiroDTO(
+        Integer numero,
+        TipoVersao tipo,
+        Long tamanhoOriginal,
+        Integer tamanhoArmazenado,
+        LocalDateTime dataCriacao
+) {
+}
@@ -0,0 +1,147 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.StatusProcessamento;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_roteiro_estrutura")
+public class EstruturaRoteiro {
+
+    @Id
+    @Column(name = "roteiro_id")
+    private Long roteiroId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusProcessamento status = StatusProcessamento.PENDENTE;
+
+    private int cenas;
+
+    private int personagens;
+
+    private int transicoes;
+
+    private int linhasDialogo;
+
+    private long palavras;
+
+    private int paginasEstimadas;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "tb_roteiro_falas", joinColumns = @JoinColumn(name = "roteiro_id"))
+    @MapKeyColumn(name = "personagem", length = 100)
+    @Column(name = "falas")
+    private Map<String, Integer> falasPorPersonagem = new HashMap<>();
+
+    private LocalDateTime dataProcessamento;
+
+    public EstruturaRoteiro() {
+    }
+
+    public EstruturaRoteiro(Long roteiroId) {
+        this.roteiroId = roteiroId;
+    }
+
+    public Long getRoteiroId() {
+        return roteiroId;
+    }
+
+    public StatusProcessamento getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusProcessamento status) {
+        this.status = status;
+    }
+
+    public int getCenas() {
+        return cenas;
+    }
+
+    public void setCenas(int cenas) {
+        this.cenas = cenas;
+    }
+
+    public int getPersonagens() {
+        return personagens;
+    }
+
+    public void setPersonagens(int personagens) {
+        this.personagens = personagens;
+    }
+
+    public int getTransicoes() {
+        return transicoes;
+    }
+
+    public void setTransicoes(int transicoes) {
+        this.transicoes = transicoes;
+    }
+
+    public int getLinhasDialogo() {
+        return linhasDialogo;
+    }
+
+    public void setLinhasDialogo(int linhasDialogo) {
+        this.linhasDialogo = linhasDialogo;
+    }
+
+    public long getPalavras() {
+        return palavras;
+    }
+
+    public void setPalavras(long palavras) {
+        this.palavras = palavras;
+    }
+
+    public int getPaginasEstimadas() {
+        return paginasEstimadas;
+    }
+
+    public void setPaginasEstimadas(int paginasEstimadas) {
+        this.paginasEstimadas = paginasEstimadas;
+    }
+
+    public Map<String, Integer> getFalasPorPersonagem() {
+        return falasPorPersonagem;
+    }
+
+    public void setFalasPorPersonagem(Map<String, Integer> falasPorPersonagem) {
+        this.falasPorPersonagem = falasPorPersonagem;
+    }
+
+    public LocalDateTime getDataProcessamento() {
+        return dataProcessamento;
+    }
+
+    public void setDataProcessamento(LocalDateTime dataProcessamento) {
+        this.dataProcessamento = dataProcessamento;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EstruturaRoteiro that = (EstruturaRoteiro) o;
+        return Objects.equals(roteiroId, that.roteiroId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(roteiroId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_roteiro_etapas", indexes = {
+        @Index(name = "idx_roteiro_etapas_roteiro", columnList = "roteiro_id, data_saida")
+})
+public class EtapaRoteiro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "roteiro_id", nullable = false)
+    private Long roteiroId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusRoteiro status;
+
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "data_entrada", nullable = false)
+    private LocalDateTime dataEntrada;
+
+    @Column(name = "data_saida")
+    private LocalDateTime dataSaida;
+
+    @Column(name = "duracao_segundos")
+    private Long duracaoSegundos;
+
+    public EtapaRoteiro() {
+    }
+
+    public EtapaRoteiro(Long roteiroId, StatusRoteiro status, Long usuarioId, LocalDateTime dataEntrada) {
+        this.roteiroId = roteiroId;
+        this.status = status;
+        this.usuarioId = usuarioId;
+        this.dataEntrada = dataEntrada;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRoteiroId() {
+        return roteiroId;
+    }
+
+    public StatusRoteiro getStatus() {
+        return status;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public LocalDateTime getDataEntrada() {
+        return dataEntrada;
+    }
+
+    public LocalDateTime getDataSaida() {
+        return dataSaida;
+    }
+
+    public Long getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    public void encerrar(LocalDateTime dataSaida) {
+        this.dataSaida = dataSaida;
+        this.duracaoSegundos = Math.max(0, Duration.between(dataEntrada, dataSaida).toSeconds());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EtapaRoteiro that = (EtapaRoteiro) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,93 @@
+package com.application.cooperfilme.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_usuario_produtividade")
+public class ProdutividadeUsuario {
+
+    @Id
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "itens_em_posse", nullable = false)
+    private long itensEmPosse;
+
+    @Column(name = "semana_referencia", nullable = false)
+    private LocalDate semanaReferencia;
+
+    @Column(name = "concluidos_semana", nullable = false)
+    private long concluidosSemana;
+
+    @Column(name = "concluidos_total", nullable = false)
+    private long concluidosTotal;
+
+    @Column(name = "atendimentos_medidos", nullable = false)
+    private long atendimentosMedidos;
+
+    @Column(name = "soma_segundos_atendimento", nullable = false)
+    private long somaSegundosAtendimento;
+
+    @Column(nullable = false)
+    private long aprovados;
+
+    @Column(nullable = false)
+    private long reprovados;
+
+    public ProdutividadeUsuario() {
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public long getItensEmPosse() {
+        return itensEmPosse;
+    }
+
+    public LocalDate getSemanaReferencia() {
+        return semanaReferencia;
+    }
+
+    public long getConcluidosSemana() {
+        return concluidosSemana;
+    }
+
+    public long getConcluidosTotal() {
+        return concluidosTotal;
+    }
+
+    public long getAtendimentosMedidos() {
+        return atendimentosMedidos;
+    }
+
+    public long getSomaSegundosAtendimento() {
+        return somaSegundosAtendimento;
+    }
+
+    public long getAprovados() {
+        return aprovados;
+    }
+
+    public long getReprovados() {
+        return reprovados;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ProdutividadeUsuario that = (ProdutividadeUsuario) o;
+        return Objects.equals(usuarioId, that.usuarioId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(usuarioId);
+    }
+}
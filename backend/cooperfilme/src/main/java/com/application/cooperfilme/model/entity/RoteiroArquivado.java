@@ -0,0 +1,25 @@
+package com.application.cooperfilme.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Immutable
+@Table(name = "tb_roteiros_arquivo")
+public class RoteiroArquivado extends RoteiroBase {
+
+    @OneToMany(mappedBy = "roteiro", fetch = FetchType.LAZY)
+    @JsonIgnore
+    private List<VotacaoArquivada> votacoes = new ArrayList<>();
+
+    public List<VotacaoArquivada> getVotacoes() {
+        return votacoes;
+    }
+}
@@ -0,0 +1,217 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@MappedSuperclass
+public abstract class RoteiroBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String titulo;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String conteudo;
+
+    @Column(length = 64)
+    private String conteudoHash;
+
+    private Long conteudoTamanho;
+
+    @Column(name = "hash_normalizado", length = 64)
+    private String hashNormalizado;
+
+    @Column(name = "roteiro_original_id")
+    private Long roteiroOriginalId;
+
+    @Column(name = "versao_conteudo", nullable = false, columnDefinition = "integer default 1")
+    private Integer versaoConteudo = 1;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long versao;
+
+    @JsonIgnore
+    @Column(name = "assinatura_minhash")
+    private byte[] assinaturaMinhash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusRoteiro status = StatusRoteiro.AGUARDANDO_ANALISE;
+
+    @Column(nullable = false)
+    private LocalDateTime dataEnvio = LocalDateTime.now();
+
+    @Column(length = 1000)
+    private String observacoesAnalise;
+
+    @Column(length = 1000)
+    private String observacoesRevisao;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cliente_id", nullable = false)
+    private Cliente cliente;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_responsavel_id")
+    private Usuario usuarioResponsavel;
+
+    public boolean possuiConteudoArmazenado() {
+        return conteudoHash != null;
+    }
+
+    public boolean conteudoAtualNoArquivo() {
+        return possuiConteudoArmazenado() && (versaoConteudo == null || versaoConteudo <= 1);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    public String getConteudo() {
+        return conteudo;
+    }
+
+    public void setConteudo(String conteudo) {
+        this.conteudo = conteudo;
+    }
+
+    public String getConteudoHash() {
+        return conteudoHash;
+    }
+
+    public void setConteudoHash(String conteudoHash) {
+        this.conteudoHash = conteudoHash;
+    }
+
+    public Long getConteudoTamanho() {
+        return conteudoTamanho;
+    }
+
+    public void setConteudoTamanho(Long conteudoTamanho) {
+        this.conteudoTamanho = conteudoTamanho;
+    }
+
+    public String getHashNormalizado() {
+        return hashNormalizado;
+    }
+
+    public void setHashNormalizado(String hashNormalizado) {
+        this.hashNormalizado = hashNormalizado;
+    }
+
+    public Long getRoteiroOriginalId() {
+        return roteiroOriginalId;
+    }
+
+    public void setRoteiroOriginalId(Long roteiroOriginalId) {
+        this.roteiroOriginalId = roteiroOriginalId;
+    }
+
+    public Integer getVersaoConteudo() {
+        return versaoConteudo;
+    }
+
+    public void setVersaoConteudo(Integer versaoConteudo) {
+        this.versaoConteudo = versaoConteudo;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public byte[] getAssinaturaMinhash() {
+        return assinaturaMinhash;
+    }
+
+    public void setAssinaturaMinhash(byte[] assinaturaMinhash) {
+        this.assinaturaMinhash = assinaturaMinhash;
+    }
+
+    public StatusRoteiro getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusRoteiro status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDataEnvio() {
+        return dataEnvio;
+    }
+
+    public void setDataEnvio(LocalDateTime dataEnvio) {
+        this.dataEnvio = dataEnvio;
+    }
+
+    public String getObservacoesAnalise() {
+        return observacoesAnalise;
+    }
+
+    public void setObservacoesAnalise(String observacoesAnalise) {
+        this.observacoesAnalise = observacoesAnalise;
+    }
+
+    public String getObservacoesRevisao() {
+        return observacoesRevisao;
+    }
+
+    public void setObservacoesRevisao(String observacoesRevisao) {
+        this.observacoesRevisao = observacoesRevisao;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public void setCliente(Cliente cliente) {
+        this.cliente = cliente;
+    }
+
+    public Usuario getUsuarioResponsavel() {
+        return usuarioResponsavel;
+    }
+
+    public void setUsuarioResponsavel(Usuario usuarioResponsavel) {
+        this.usuarioResponsavel = usuarioResponsavel;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RoteiroBase roteiro = (RoteiroBase) o;
+        return Objects.equals(id, roteiro.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
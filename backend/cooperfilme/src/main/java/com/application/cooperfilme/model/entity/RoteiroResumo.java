@@ -0,0 +1,182 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_roteiro_resumo", indexes = {
+        @Index(name = "idx_roteiro_resumo_status", columnList = "status, data_envio"),
+        @Index(name = "idx_roteiro_resumo_responsavel", columnList = "responsavel_email"),
+        @Index(name = "idx_roteiro_resumo_data_envio", columnList = "data_envio")
+})
+public class RoteiroResumo {
+
+    @Id
+    @Column(name = "roteiro_id")
+    private Long roteiroId;
+
+    @Column(nullable = false, length = 200)
+    private String titulo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusRoteiro status;
+
+    @Column(name = "cliente_id", nullable = false)
+    private Long clienteId;
+
+    @Column(name = "cliente_nome", length = 100)
+    private String clienteNome;
+
+    @Column(name = "cliente_email", length = 100)
+    private String clienteEmail;
+
+    @Column(name = "responsavel_id")
+    private Long responsavelId;
+
+    @Column(name = "responsavel_nome")
+    private String responsavelNome;
+
+    @Column(name = "responsavel_email")
+    private String responsavelEmail;
+
+    @Column(name = "votos_aprovados", nullable = false)
+    private long votosAprovados;
+
+    @Column(name = "votos_reprovados", nullable = false)
+    private long votosReprovados;
+
+    @Column(name = "data_envio", nullable = false)
+    private LocalDateTime dataEnvio;
+
+    @Column(name = "data_ultima_transicao", nullable = false)
+    private LocalDateTime dataUltimaTransicao;
+
+    public RoteiroResumo() {
+    }
+
+    public RoteiroResumo(Long roteiroId) {
+        this.roteiroId = roteiroId;
+    }
+
+    public Long getRoteiroId() {
+        return roteiroId;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    public StatusRoteiro getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusRoteiro status) {
+        this.status = status;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Long clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public String getClienteNome() {
+        return clienteNome;
+    }
+
+    public void setClienteNome(String clienteNome) {
+        this.clienteNome = clienteNome;
+    }
+
+    public String getClienteEmail() {
+        return clienteEmail;
+    }
+
+    public void setClienteEmail(String clienteEmail) {
+        this.clienteEmail = clienteEmail;
+    }
+
+    public Long getResponsavelId() {
+        return responsavelId;
+    }
+
+    public void setResponsavelId(Long responsavelId) {
+        this.responsavelId = responsavelId;
+    }
+
+    public String getResponsavelNome() {
+        return responsavelNome;
+    }
+
+    public void setResponsavelNome(String responsavelNome) {
+        this.responsavelNome = responsavelNome;
+    }
+
+    public String getResponsavelEmail() {
+        return responsavelEmail;
+    }
+
+    public void setResponsavelEmail(String responsavelEmail) {
+        this.responsavelEmail = responsavelEmail;
+    }
+
+    public long getVotosAprovados() {
+        return votosAprovados;
+    }
+
+    public void setVotosAprovados(long votosAprovados) {
+        this.votosAprovados = votosAprovados;
+    }
+
+    public long getVotosReprovados() {
+        return votosReprovados;
+    }
+
+    public void setVotosReprovados(long votosReprovados) {
+        this.votosReprovados = votosReprovados;
+    }
+
+    public LocalDateTime getDataEnvio() {
+        return dataEnvio;
+    }
+
+    public void setDataEnvio(LocalDateTime dataEnvio) {
+        this.dataEnvio = dataEnvio;
+    }
+
+    public LocalDateTime getDataUltimaTransicao() {
+        return dataUltimaTransicao;
+    }
+
+    public void setDataUltimaTransicao(LocalDateTime dataUltimaTransicao) {
+        this.dataUltimaTransicao = dataUltimaTransicao;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RoteiroResumo that = (RoteiroResumo) o;
+        return Objects.equals(roteiroId, that.roteiroId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(roteiroId);
+    }
+}
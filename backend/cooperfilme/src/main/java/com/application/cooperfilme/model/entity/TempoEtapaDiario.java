@@ -0,0 +1,103 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_tempo_etapa_diario", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tempo_etapa_diario", columnNames = {"dia", "etapa"})
+})
+public class TempoEtapaDiario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusRoteiro etapa;
+
+    @Column(nullable = false)
+    private long quantidade;
+
+    @Column(name = "soma_segundos", nullable = false)
+    private long somaSegundos;
+
+    @Column(name = "maximo_segundos", nullable = false)
+    private long maximoSegundos;
+
+    private byte[] histograma;
+
+    public TempoEtapaDiario() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public StatusRoteiro getEtapa() {
+        return etapa;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public long getSomaSegundos() {
+        return somaSegundos;
+    }
+
+    public void setSomaSegundos(long somaSegundos) {
+        this.somaSegundos = somaSegundos;
+    }
+
+    public long getMaximoSegundos() {
+        return maximoSegundos;
+    }
+
+    public void setMaximoSegundos(long maximoSegundos) {
+        this.maximoSegundos = maximoSegundos;
+    }
+
+    public byte[] getHistograma() {
+        return histograma;
+    }
+
+    public void setHistograma(byte[] histograma) {
+        this.histograma = histograma;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        TempoEtapaDiario that = (TempoEtapaDiario) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,105 @@
+package com.application.cooperfilme.model.entity;
+
+import com.application.cooperfilme.enums.TipoVersao;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_roteiro_versoes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_roteiro_versoes_numero", columnNames = {"roteiro_id", "numero"})
+})
+public class VersaoRoteiro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "roteiro_id", nullable = false)
+    private Long roteiroId;
+
+    @Column(nullable = false)
+    private Integer numero;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TipoVersao tipo;
+
+    @Column(nullable = false)
+    private byte[] dados;
+
+    @Column(nullable = false)
+    private Long tamanhoOriginal;
+
+    @Column(nullable = false)
+    private Integer tamanhoArmazenado;
+
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    public VersaoRoteiro() {
+    }
+
+    public VersaoRoteiro(Long roteiroId, Integer numero, TipoVersao tipo, byte[] dados, Long tamanhoOriginal) {
+        this.roteiroId = roteiroId;
+        this.numero = numero;
+        this.tipo = tipo;
+        this.dados = dados;
+        this.tamanhoOriginal = tamanhoOriginal;
+        this.tamanhoArmazenado = dados.length;
+        this.dataCriacao = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRoteiroId() {
+        return roteiroId;
+    }
+
+    public Integer getNumero() {
+        return numero;
+    }
+
+    public TipoVersao getTipo() {
+        return tipo;
+    }
+
+    public byte[] getDados() {
+        return dados;
+    }
+
+    public Long getTamanhoOriginal() {
+        return tamanhoOriginal;
+    }
+
+    public Integer getTamanhoArmazenado() {
+        return tamanhoArmazenado;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        VersaoRoteiro that = (VersaoRoteiro) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
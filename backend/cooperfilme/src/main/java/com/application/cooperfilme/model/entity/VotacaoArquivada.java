@@ -0,0 +1,75 @@
+package com.application.cooperfilme.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Immutable
+@Table(name = "tb_votacao_arquivo")
+public class VotacaoArquivada {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "roteiro_id", nullable = false)
+    private RoteiroArquivado roteiro;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "aprovador_id", nullable = false)
+    private Usuario aprovador;
+
+    @Column(nullable = false)
+    private Boolean aprovado;
+
+    @Column(length = 1000)
+    private String justificativa;
+
+    @Column(nullable = false)
+    private LocalDateTime dataVoto;
+
+    public Long getId() {
+        return id;
+    }
+
+    public RoteiroArquivado getRoteiro() {
+        return roteiro;
+    }
+
+    public Usuario getAprovador() {
+        return aprovador;
+    }
+
+    public Boolean getAprovado() {
+        return aprovado;
+    }
+
+    public String getJustificativa() {
+        return justificativa;
+    }
+
+    public LocalDateTime getDataVoto() {
+        return dataVoto;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        VotacaoArquivada votacao = (VotacaoArquivada) o;
+        return Objects.equals(id, votacao.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -1,11 +1,15 @@
 package com.application.cooperfilme.repository;
 
 import com.application.cooperfilme.model.entity.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +17,9 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
     @Query("SELECT c FROM Cliente c LEFT JOIN FETCH c.roteiros WHERE c.email = :email")
     Optional<Cliente> findByEmailWithRoteiros(@Param("email") String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Cliente> findByEmail(String email);
+
+    @Query("SELECT c.id, c.nome FROM Cliente c")
+    List<Object[]> findIdsENomes();
 }
@@ -0,0 +1,24 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.model.entity.EstruturaRoteiro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EstruturaRoteiroRepository extends JpaRepository<EstruturaRoteiro, Long> {
+
+    @Query(value = """
+            SELECT r.id
+            FROM tb_roteiros r
+            LEFT JOIN tb_roteiro_estrutura e ON e.roteiro_id = r.id
+            WHERE r.data_envio < :limite
+              AND (e.roteiro_id IS NULL OR (e.status = 'FALHOU' AND e.data_processamento < :limite))
+            ORDER BY r.id
+            LIMIT :quantidade
+            """, nativeQuery = true)
+    List<Long> findPendentes(LocalDateTime limite, int quantidade);
+}
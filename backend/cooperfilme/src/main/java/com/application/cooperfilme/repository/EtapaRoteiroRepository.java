@@ -0,0 +1,13 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EtapaRoteiroRepository extends JpaRepository<EtapaRoteiro, Long> {
+
+    Optional<EtapaRoteiro> findFirstByRoteiroIdAndDataSaidaIsNullOrderByDataEntradaDesc(Long roteiroId);
+}
@@ -0,0 +1,56 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.model.entity.ProdutividadeUsuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProdutividadeUsuarioRepository extends JpaRepository<ProdutividadeUsuario, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_usuario_produtividade"))
+    @Query(value = """
+            INSERT INTO tb_usuario_produtividade AS p (usuario_id, itens_em_posse, semana_referencia, concluidos_semana,
+                concluidos_total, atendimentos_medidos, soma_segundos_atendimento, aprovados, reprovados)
+            VALUES (:usuarioId, :posse, :semana, :concluidos, :concluidos, :medidos, :segundos, :aprovados, :reprovados)
+            ON CONFLICT (usuario_id) DO UPDATE SET
+                itens_em_posse = greatest(p.itens_em_posse + EXCLUDED.itens_em_posse, 0),
+                concluidos_semana = CASE WHEN p.semana_referencia = EXCLUDED.semana_referencia
+                    THEN p.concluidos_semana + EXCLUDED.concluidos_semana
+                    ELSE EXCLUDED.concluidos_semana END,
+                semana_referencia = greatest(p.semana_referencia, EXCLUDED.semana_referencia),
+                concluidos_total = p.concluidos_total + EXCLUDED.concluidos_total,
+                atendimentos_medidos = p.atendimentos_medidos + EXCLUDED.atendimentos_medidos,
+                soma_segundos_atendimento = p.soma_segundos_atendimento + EXCLUDED.soma_segundos_atendimento,
+                aprovados = p.aprovados + EXCLUDED.aprovados,
+                reprovados = p.reprovados + EXCLUDED.reprovados
+            """, nativeQuery = true)
+    void acumular(Long usuarioId, long posse, LocalDate semana, long concluidos, long medidos, long segundos,
+                  long aprovados, long reprovados);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_usuario_produtividade"))
+    @Query(value = """
+            INSERT INTO tb_usuario_produtividade AS p (usuario_id, itens_em_posse, semana_referencia, concluidos_semana,
+                concluidos_total, atendimentos_medidos, soma_segundos_atendimento, aprovados, reprovados)
+            SELECT u.id, count(r.id), :semana, 0, 0, 0, 0, 0, 0
+            FROM tb_usuario u
+            LEFT JOIN tb_roteiros r ON r.usuario_responsavel_id = u.id AND r.status IN ('EM_ANALISE', 'EM_REVISAO')
+            GROUP BY u.id
+            ON CONFLICT (usuario_id) DO UPDATE SET itens_em_posse = EXCLUDED.itens_em_posse
+            """, nativeQuery = true)
+    int reconciliarPosse(LocalDate semana);
+
+    @Query("SELECT u.id, u.nome, u.cargo, p.itensEmPosse, p.semanaReferencia, p.concluidosSemana, p.concluidosTotal, " +
+            "p.atendimentosMedidos, p.somaSegundosAtendimento, p.aprovados, p.reprovados " +
+            "FROM Usuario u LEFT JOIN ProdutividadeUsuario p ON p.usuarioId = u.id ORDER BY u.cargo, u.nome")
+    List<Object[]> listarEquipe();
+}
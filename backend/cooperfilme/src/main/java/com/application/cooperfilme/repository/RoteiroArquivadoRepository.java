@@ -0,0 +1,17 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.model.entity.RoteiroArquivado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RoteiroArquivadoRepository extends JpaRepository<RoteiroArquivado, Long> {
+
+    Optional<RoteiroArquivado> findFirstByHashNormalizadoOrderByIdAsc(String hashNormalizado);
+
+    @Query("SELECT r.versao FROM RoteiroArquivado r WHERE r.id = :id")
+    Optional<Long> findVersaoById(Long id);
+}
@@ -2,10 +2,16 @@ package com.application.cooperfilme.repository;
 
 import com.application.cooperfilme.enums.StatusRoteiro;
 import com.application.cooperfilme.model.entity.Roteiro;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +19,12 @@ import java.util.Optional;
 @Repository
 public interface RoteiroRepository extends JpaRepository<Roteiro, Long> {
 
+    String COLUNAS = """
+            id, titulo, conteudo, conteudo_hash, conteudo_tamanho, hash_normalizado, roteiro_original_id, versao_conteudo,
+            versao, assinatura_minhash, status, data_envio, observacoes_analise, observacoes_revisao, cliente_id,
+            usuario_responsavel_id, documento_busca
+            """;
+
     @Query("SELECT r FROM Roteiro r JOIN r.cliente c WHERE r.id = :id AND c.email = :email")
     Optional<Roteiro> findByIdAndClienteEmail(Long id, String email);
 
@@ -24,4 +36,91 @@ public interface RoteiroRepository extends JpaRepository<Roteiro, Long> {
 
     @Query("SELECT r FROM Roteiro r JOIN r.usuarioResponsavel u WHERE u.email = :email")
     List<Roteiro> findByUsuarioResponsavelEmail(String email);
+
+    @Query("SELECT r.versao FROM Roteiro r WHERE r.id = :id")
+    Optional<Long> findVersaoById(Long id);
+
+    Optional<Roteiro> findFirstByHashNormalizadoOrderByIdAsc(String hashNormalizado);
+
+    @Query("SELECT r.id FROM Roteiro r WHERE r.assinaturaMinhash IS NULL")
+    List<Long> findIdsSemAssinaturaMinhash();
+
+    @Query("SELECT r.id, r.assinaturaMinhash FROM Roteiro r WHERE r.id > :ultimoId AND r.assinaturaMinhash IS NOT NULL ORDER BY r.id")
+    List<Object[]> findAssinaturasMinhashAposId(Long ultimoId, Pageable pageable);
+
+    @Query(value = """
+            SELECT id, titulo, status, data_envio FROM tb_roteiros WHERE cliente_id = :clienteId
+            UNION ALL
+            SELECT id, titulo, status, data_envio FROM tb_roteiros_arquivo WHERE cliente_id = :clienteId
+            ORDER BY data_envio, id
+            """, nativeQuery = true)
+    List<Object[]> findResumoByClienteId(Long clienteId);
+
+    @Query("SELECT r.status, count(r) FROM Roteiro r GROUP BY r.status")
+    List<Object[]> contarPorStatus();
+
+    @Query(value = "SELECT status, count(*) FROM tb_roteiros_arquivo GROUP BY status", nativeQuery = true)
+    List<Object[]> contarArquivadosPorStatus();
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiros"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_votacao"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiro_resumo"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiros_arquivo")
+    })
+    @Query(value = """
+            WITH lote AS (
+                SELECT id FROM tb_roteiros
+                WHERE status IN ('APROVADO', 'RECUSADO') AND data_envio < :limite
+                ORDER BY data_envio, id
+                LIMIT :tamanhoLote
+                FOR UPDATE SKIP LOCKED
+            ), votos AS (
+                DELETE FROM tb_votacao v USING lote l WHERE v.roteiro_id = l.id
+                RETURNING v.id, v.roteiro_id, v.aprovador_id, v.aprovado, v.justificativa, v.data_voto
+            ), votos_arquivados AS (
+                INSERT INTO tb_votacao_arquivo (id, roteiro_id, aprovador_id, aprovado, justificativa, data_voto)
+                SELECT id, roteiro_id, aprovador_id, aprovado, justificativa, data_voto FROM votos
+            ), resumos AS (
+                DELETE FROM tb_roteiro_resumo p USING lote l WHERE p.roteiro_id = l.id
+            ), roteiros AS (
+                DELETE FROM tb_roteiros r USING lote l WHERE r.id = l.id
+                RETURNING r.*
+            )
+            INSERT INTO tb_roteiros_arquivo (""" + COLUNAS + ") SELECT " + COLUNAS + " FROM roteiros",
+            nativeQuery = true)
+    int arquivarFinalizados(LocalDateTime limite, int tamanhoLote);
+
+    @Query("SELECT r.id, r.titulo, r.status FROM Roteiro r WHERE r.id IN :ids")
+    List<Object[]> findResumoByIds(List<Long> ids);
+
+    @Query("SELECT r.id, r.titulo FROM Roteiro r")
+    List<Object[]> findIdsETitulos();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiros"))
+    @Query(value = """
+            UPDATE tb_roteiros
+            SET documento_busca = setweight(to_tsvector('portuguese', titulo), 'A')
+                    || setweight(to_tsvector('portuguese', coalesce(cast(:conteudo AS text), conteudo, '')), 'B')
+            WHERE id = :id
+            """, nativeQuery = true)
+    void atualizarDocumentoBusca(Long id, String conteudo);
+
+    @Query(value = """
+            SELECT r.id, r.titulo, r.status, m.relevancia,
+                   ts_headline('portuguese', left(coalesce(r.conteudo, r.titulo), 50000), websearch_to_tsquery('portuguese', :consulta),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=10') AS trecho
+            FROM (
+                SELECT b.id, ts_rank_cd(b.documento_busca, websearch_to_tsquery('portuguese', :consulta)) AS relevancia
+                FROM tb_roteiros b
+                WHERE b.documento_busca @@ websearch_to_tsquery('portuguese', :consulta)
+                ORDER BY relevancia DESC, b.id
+                LIMIT :limite OFFSET :deslocamento
+            ) m
+            JOIN tb_roteiros r ON r.id = m.id
+            ORDER BY m.relevancia DESC, r.id
+            """, nativeQuery = true)
+    List<Object[]> buscarTextoCompleto(String consulta, int limite, int deslocamento);
 }
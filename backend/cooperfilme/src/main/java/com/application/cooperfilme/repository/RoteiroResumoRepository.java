@@ -0,0 +1,130 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RoteiroResumoRepository extends JpaRepository<RoteiroResumo, Long> {
+
+    String FONTE = """
+            SELECT r.id AS roteiro_id, r.titulo, r.status, c.id AS cliente_id, c.nome AS cliente_nome, c.email AS cliente_email,
+                   u.id AS responsavel_id, u.nome AS responsavel_nome, u.email AS responsavel_email,
+                   count(v.id) FILTER (WHERE v.aprovado) AS votos_aprovados,
+                   count(v.id) FILTER (WHERE NOT v.aprovado) AS votos_reprovados,
+                   r.data_envio,
+                   coalesce((SELECT max(e.data_entrada) FROM tb_roteiro_etapas e WHERE e.roteiro_id = r.id), r.data_envio)
+                       AS data_ultima_transicao
+            FROM tb_roteiros r
+            JOIN tb_cliente c ON c.id = r.cliente_id
+            LEFT JOIN tb_usuario u ON u.id = r.usuario_responsavel_id
+            LEFT JOIN tb_votacao v ON v.roteiro_id = r.id
+            GROUP BY r.id, c.id, u.id
+            """;
+
+    List<RoteiroResumo> findAllByOrderByDataEnvioDesc();
+
+    List<RoteiroResumo> findByStatusOrderByDataEnvioDesc(StatusRoteiro status);
+
+    List<RoteiroResumo> findByResponsavelEmailOrderByDataEnvioDesc(String responsavelEmail);
+
+    List<RoteiroResumo> findByStatusAndResponsavelEmailAndDataEnvioLessThanEqualOrderByDataEnvioDesc(
+            StatusRoteiro status, String responsavelEmail, LocalDateTime dataEnvio);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiro_resumo"))
+    @Query(value = "INSERT INTO tb_roteiro_resumo (roteiro_id, titulo, status, cliente_id, cliente_nome, cliente_email, " +
+            "responsavel_id, responsavel_nome, responsavel_email, votos_aprovados, votos_reprovados, data_envio, data_ultima_transicao) " +
+            FONTE + """
+            ON CONFLICT (roteiro_id) DO UPDATE SET
+                titulo = EXCLUDED.titulo,
+                status = EXCLUDED.status,
+                cliente_id = EXCLUDED.cliente_id,
+                cliente_nome = EXCLUDED.cliente_nome,
+                cliente_email = EXCLUDED.cliente_email,
+                responsavel_id = EXCLUDED.responsavel_id,
+                responsavel_nome = EXCLUDED.responsavel_nome,
+                responsavel_email = EXCLUDED.responsavel_email,
+                votos_aprovados = EXCLUDED.votos_aprovados,
+                votos_reprovados = EXCLUDED.votos_reprovados,
+                data_envio = EXCLUDED.data_envio,
+                data_ultima_transicao = EXCLUDED.data_ultima_transicao
+            """, nativeQuery = true)
+    int reconstruir();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiro_resumo"))
+    @Query(value = """
+            INSERT INTO tb_roteiro_resumo (roteiro_id, titulo, status, cliente_id, cliente_nome, cliente_email,
+                responsavel_id, responsavel_nome, responsavel_email, votos_aprovados, votos_reprovados, data_envio, data_ultima_transicao)
+            VALUES (:roteiroId, :titulo, :status, :clienteId, :clienteNome, :clienteEmail,
+                CAST(:responsavelId AS BIGINT), CAST(:responsavelNome AS VARCHAR), CAST(:responsavelEmail AS VARCHAR),
+                :votosAprovados, :votosReprovados, :dataEnvio, :dataUltimaTransicao)
+            ON CONFLICT (roteiro_id) DO UPDATE SET
+                titulo = EXCLUDED.titulo,
+                status = EXCLUDED.status,
+                cliente_id = EXCLUDED.cliente_id,
+                cliente_nome = EXCLUDED.cliente_nome,
+                cliente_email = EXCLUDED.cliente_email,
+                responsavel_id = EXCLUDED.responsavel_id,
+                responsavel_nome = EXCLUDED.responsavel_nome,
+                responsavel_email = EXCLUDED.responsavel_email,
+                votos_aprovados = EXCLUDED.votos_aprovados,
+                votos_reprovados = EXCLUDED.votos_reprovados,
+                data_envio = EXCLUDED.data_envio,
+                data_ultima_transicao = CASE WHEN tb_roteiro_resumo.status = EXCLUDED.status
+                    THEN tb_roteiro_resumo.data_ultima_transicao ELSE EXCLUDED.data_ultima_transicao END
+            """, nativeQuery = true)
+    void gravar(Long roteiroId, String titulo, String status, Long clienteId, String clienteNome, String clienteEmail,
+                Long responsavelId, String responsavelNome, String responsavelEmail, long votosAprovados,
+                long votosReprovados, LocalDateTime dataEnvio, LocalDateTime dataUltimaTransicao);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_roteiro_resumo"))
+    @Query(value = "DELETE FROM tb_roteiro_resumo p WHERE NOT EXISTS (SELECT 1 FROM tb_roteiros r WHERE r.id = p.roteiro_id)",
+            nativeQuery = true)
+    int removerOrfaos();
+
+    @Query(value = "WITH fonte AS (" + FONTE + """
+            )
+            SELECT coalesce(f.roteiro_id, p.roteiro_id)
+            FROM fonte f
+            FULL OUTER JOIN tb_roteiro_resumo p ON p.roteiro_id = f.roteiro_id
+            WHERE f.roteiro_id IS NULL
+               OR p.roteiro_id IS NULL
+               OR f.titulo IS DISTINCT FROM p.titulo
+               OR f.status IS DISTINCT FROM p.status
+               OR f.cliente_nome IS DISTINCT FROM p.cliente_nome
+               OR f.cliente_email IS DISTINCT FROM p.cliente_email
+               OR f.responsavel_id IS DISTINCT FROM p.responsavel_id
+               OR f.responsavel_nome IS DISTINCT FROM p.responsavel_nome
+               OR f.votos_aprovados IS DISTINCT FROM p.votos_aprovados
+               OR f.votos_reprovados IS DISTINCT FROM p.votos_reprovados
+               OR f.data_envio IS DISTINCT FROM p.data_envio
+               OR f.data_ultima_transicao IS DISTINCT FROM p.data_ultima_transicao
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<Long> findDivergentes();
+
+    @Query(value = """
+            SELECT q.status, q.total, q.roteiro_id, q.titulo, q.cliente_nome, q.responsavel_nome, q.data_envio
+            FROM (
+                SELECT p.status, p.roteiro_id, p.titulo, p.cliente_nome, p.responsavel_nome, p.data_envio,
+                       ROW_NUMBER() OVER (PARTITION BY p.status ORDER BY p.data_envio, p.roteiro_id) AS posicao,
+                       count(*) OVER (PARTITION BY p.status) AS total
+                FROM tb_roteiro_resumo p
+            ) q
+            WHERE q.posicao <= :limite
+            ORDER BY q.status, q.posicao
+            """, nativeQuery = true)
+    List<Object[]> montarQuadro(int limite);
+}
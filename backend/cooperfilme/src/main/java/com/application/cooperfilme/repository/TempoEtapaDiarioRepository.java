@@ -0,0 +1,36 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.entity.TempoEtapaDiario;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TempoEtapaDiarioRepository extends JpaRepository<TempoEtapaDiario, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_tempo_etapa_diario"))
+    @Query(value = """
+            INSERT INTO tb_tempo_etapa_diario (dia, etapa, quantidade, soma_segundos, maximo_segundos)
+            VALUES (:dia, :etapa, 0, 0, 0)
+            ON CONFLICT (dia, etapa) DO NOTHING
+            """, nativeQuery = true)
+    void garantirLinha(LocalDate dia, String etapa);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TempoEtapaDiario> findByDiaAndEtapa(LocalDate dia, StatusRoteiro etapa);
+
+    @Query("SELECT t FROM TempoEtapaDiario t WHERE t.dia BETWEEN :inicio AND :fim AND t.quantidade > 0")
+    List<TempoEtapaDiario> findPeriodo(LocalDate inicio, LocalDate fim);
+}
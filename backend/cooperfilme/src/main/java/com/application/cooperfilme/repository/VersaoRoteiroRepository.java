@@ -0,0 +1,26 @@
+package com.application.cooperfilme.repository;
+
+import com.application.cooperfilme.enums.TipoVersao;
+import com.application.cooperfilme.model.dto.VersaoRoteiroDTO;
+import com.application.cooperfilme.model.entity.VersaoRoteiro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VersaoRoteiroRepository extends JpaRepository<VersaoRoteiro, Long> {
+
+    boolean existsByRoteiroId(Long roteiroId);
+
+    Optional<VersaoRoteiro> findFirstByRoteiroIdAndTipoAndNumeroLessThanEqualOrderByNumeroDesc(Long roteiroId, TipoVersao tipo, Integer numero);
+
+    @Query("SELECT v FROM VersaoRoteiro v WHERE v.roteiroId = :roteiroId AND v.numero > :de AND v.numero <= :ate ORDER BY v.numero")
+    List<VersaoRoteiro> findIntervalo(Long roteiroId, Integer de, Integer ate);
+
+    @Query("SELECT new com.application.cooperfilme.model.dto.VersaoRoteiroDTO(v.numero, v.tipo, v.tamanhoOriginal, v.tamanhoArmazenado, v.dataCriacao) " +
+            "FROM VersaoRoteiro v WHERE v.roteiroId = :roteiroId ORDER BY v.numero")
+    List<VersaoRoteiroDTO> listarPorRoteiro(Long roteiroId);
+}
@@ -0,0 +1,15 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.ConteudoArmazenadoDTO;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+
+public interface ArmazenamentoService {
+    ConteudoArmazenadoDTO armazenar(InputStream entrada);
+    InputStream abrir(String hash);
+    Reader abrirConteudo(RoteiroBase roteiro);
+    void transferir(String hash, long inicio, long quantidade, OutputStream saida);
+}
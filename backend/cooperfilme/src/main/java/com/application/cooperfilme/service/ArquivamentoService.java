@@ -0,0 +1,5 @@
+package com.application.cooperfilme.service;
+
+public interface ArquivamentoService {
+    int arquivar();
+}
@@ -0,0 +1,12 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.enums.TipoSugestao;
+import com.application.cooperfilme.model.dto.SugestaoDTO;
+
+import java.util.List;
+
+public interface AutocompletarService {
+    void adicionar(TipoSugestao tipo, Long id, String texto);
+    List<SugestaoDTO> sugerir(String prefixo, int limite);
+    int carregar();
+}
@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.ResultadoBuscaDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+
+import java.util.List;
+
+public interface BuscaService {
+    void indexar(Roteiro roteiro);
+    List<ResultadoBuscaDTO> buscar(String consulta, int pagina, int tamanho);
+}
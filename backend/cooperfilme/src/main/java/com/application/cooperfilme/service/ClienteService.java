@@ -1,5 +1,6 @@
 package com.application.cooperfilme.service;
 
+import com.application.cooperfilme.model.dto.ClientePortalDTO;
 import com.application.cooperfilme.model.dto.ClienteRespostaDTO;
 import com.application.cooperfilme.model.entity.Cliente;
 
@@ -7,4 +8,6 @@ public interface ClienteService {
     Cliente buscarPorId(Long id);
     Cliente buscarOuCriarCliente(String nome, String email, String telefone);
     ClienteRespostaDTO buscarPorEmail(String email);
+    ClientePortalDTO consultarPortal(String email);
+    void invalidarPortal(String email);
 }
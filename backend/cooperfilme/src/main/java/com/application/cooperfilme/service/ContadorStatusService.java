@@ -0,0 +1,10 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.ContadoresStatusDTO;
+
+public interface ContadorStatusService {
+    void registrarTransicao(StatusRoteiro anterior, StatusRoteiro atual);
+    ContadoresStatusDTO consultar();
+    void reconciliar();
+}
@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.entity.RoteiroBase;
+
+import java.io.Reader;
+import java.util.Optional;
+
+public interface DeduplicacaoService {
+    String calcularHash(Reader conteudo);
+    Optional<RoteiroBase> buscarOriginal(String hashNormalizado);
+}
@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.ConsultaSqlDTO;
+
+import java.util.List;
+
+public interface EstatisticaConsultaService {
+    boolean registrar(String sql, long nanos);
+    void registrarLenta(String sql, long nanos, String formaParametros);
+    List<ConsultaSqlDTO> listarMaisCustosas(int limite);
+}
@@ -0,0 +1,8 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.EstruturaRoteiroDTO;
+
+public interface EstruturaRoteiroService {
+    void processar(Long roteiroId);
+    EstruturaRoteiroDTO buscar(Long roteiroId);
+}
@@ -0,0 +1,203 @@
+package com.application.cooperfilme.service.Impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class AnalisadorFountain {
+
+    static final int LINHAS_POR_PAGINA = 55;
+
+    private static final int LARGURA_ACAO = 61;
+    private static final int LARGURA_DIALOGO = 35;
+    private static final int TAMANHO_MAXIMO_NOME = 100;
+    private static final Pattern CENA = Pattern.compile("^(INT|EXT|EST|INT\\.?/EXT|I/E)[.\\s].*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EXTENSAO_PERSONAGEM = Pattern.compile("\\s*\\([^)]*\\)\\s*$");
+    private static final Pattern NOTA = Pattern.compile("\\[\\[.*?]]");
+
+    private final Resultado resultado = new Resultado();
+    private boolean anteriorVazia = true;
+    private boolean emDialogo;
+    private boolean emBoneyard;
+    private String candidatoPersonagem;
+    private String linhaCandidata;
+
+    Resultado analisar(String bloco) {
+        bloco.lines().forEach(this::processarLinha);
+        return finalizar();
+    }
+
+    private void processarLinha(String original) {
+        String linha = removerComentarios(original);
+        if (linha == null) {
+            return;
+        }
+        linha = linha.strip();
+
+        if (candidatoPersonagem != null) {
+            if (!linha.isEmpty()) {
+                resultado.falasPorPersonagem.merge(candidatoPersonagem, 1, Integer::sum);
+                resultado.linhasFormatadas++;
+                emDialogo = true;
+            } else {
+                resultado.linhasFormatadas += linhasQuebradas(linhaCandidata, LARGURA_ACAO);
+            }
+            candidatoPersonagem = null;
+            linhaCandidata = null;
+        }
+
+        if (linha.isEmpty()) {
+            if (!anteriorVazia) {
+                resultado.linhasFormatadas++;
+            }
+            anteriorVazia = true;
+            emDialogo = false;
+            return;
+        }
+
+        if (!emDialogo && (linha.startsWith("#") || linha.startsWith("="))) {
+            return;
+        }
+
+        resultado.palavras += contarPalavras(linha);
+
+        if (emDialogo) {
+            resultado.linhasDialogo++;
+            resultado.linhasFormatadas += linhasQuebradas(linha, LARGURA_DIALOGO);
+        } else if (linha.startsWith("!")) {
+            resultado.linhasFormatadas += linhasQuebradas(linha, LARGURA_ACAO);
+        } else if (anteriorVazia && ehCena(linha)) {
+            resultado.cenas++;
+            resultado.linhasFormatadas++;
+        } else if (anteriorVazia && ehTransicao(linha)) {
+            resultado.transicoes++;
+            resultado.linhasFormatadas++;
+        } else if (anteriorVazia && ehPersonagem(linha)) {
+            candidatoPersonagem = nomePersonagem(linha);
+            linhaCandidata = linha;
+        } else {
+            resultado.linhasFormatadas += linhasQuebradas(linha, LARGURA_ACAO);
+        }
+        anteriorVazia = false;
+    }
+
+    private Resultado finalizar() {
+        if (candidatoPersonagem != null) {
+            resultado.linhasFormatadas += linhasQuebradas(linhaCandidata, LARGURA_ACAO);
+            candidatoPersonagem = null;
+        }
+        return resultado;
+    }
+
+    private String removerComentarios(String linha) {
+        boolean comecouNoBoneyard = emBoneyard;
+        StringBuilder saida = new StringBuilder(linha.length());
+        int posicao = 0;
+        while (posicao < linha.length()) {
+            if (emBoneyard) {
+                int fim = linha.indexOf("*/", posicao);
+                if (fim < 0) {
+                    break;
+                }
+                emBoneyard = false;
+                posicao = fim + 2;
+            } else {
+                int inicio = linha.indexOf("/*", posicao);
+                if (inicio < 0) {
+                    saida.append(linha, posicao, linha.length());
+                    break;
+                }
+                saida.append(linha, posicao, inicio);
+                emBoneyard = true;
+                posicao = inicio + 2;
+            }
+        }
+        if (comecouNoBoneyard && saida.isEmpty()) {
+            return null;
+        }
+        return NOTA.matcher(saida).replaceAll("");
+    }
+
+    private static boolean ehCena(String linha) {
+        if (linha.length() > 1 && linha.charAt(0) == '.' && linha.charAt(1) != '.') {
+            return true;
+        }
+        return CENA.matcher(linha).matches();
+    }
+
+    private static boolean ehTransicao(String linha) {
+        if (linha.startsWith(">")) {
+            return !linha.endsWith("<");
+        }
+        return ehMaiuscula(linha) && linha.endsWith("TO:");
+    }
+
+    private static boolean ehPersonagem(String linha) {
+        if (linha.startsWith("@")) {
+            return linha.length() > 1;
+        }
+        String nome = EXTENSAO_PERSONAGEM.matcher(linha).replaceAll("");
+        return ehMaiuscula(nome) && !nome.endsWith(":");
+    }
+
+    private static String nomePersonagem(String linha) {
+        String nome = linha.startsWith("@") ? linha.substring(1) : linha;
+        nome = EXTENSAO_PERSONAGEM.matcher(nome.replace("^", "")).replaceAll("").strip();
+        return nome.length() > TAMANHO_MAXIMO_NOME ? nome.substring(0, TAMANHO_MAXIMO_NOME) : nome;
+    }
+
+    private static boolean ehMaiuscula(String texto) {
+        boolean possuiLetra = false;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (Character.isLowerCase(c)) {
+                return false;
+            }
+            possuiLetra |= Character.isLetter(c);
+        }
+        return possuiLetra;
+    }
+
+    private static int linhasQuebradas(String linha, int largura) {
+        return Math.max(1, (linha.length() + largura - 1) / largura);
+    }
+
+    private static int contarPalavras(String linha) {
+        int palavras = 0;
+        boolean dentroDePalavra = false;
+        for (int i = 0; i < linha.length(); i++) {
+            boolean espaco = Character.isWhitespace(linha.charAt(i));
+            if (!espaco && !dentroDePalavra) {
+                palavras++;
+            }
+            dentroDePalavra = !espaco;
+        }
+        return palavras;
+    }
+
+    static final class Resultado {
+        int cenas;
+        int transicoes;
+        int linhasDialogo;
+        long palavras;
+        long linhasFormatadas;
+        final Map<String, Integer> falasPorPersonagem = new HashMap<>();
+
+        Resultado combinar(Resultado outro) {
+            cenas += outro.cenas;
+            transicoes += outro.transicoes;
+            linhasDialogo += outro.linhasDialogo;
+            palavras += outro.palavras;
+            linhasFormatadas += outro.linhasFormatadas;
+            outro.falasPorPersonagem.forEach((nome, falas) -> falasPorPersonagem.merge(nome, falas, Integer::sum));
+            return this;
+        }
+
+        int paginasEstimadas() {
+            if (palavras == 0) {
+                return 0;
+            }
+            return (int) Math.max(1, (linhasFormatadas + LINHAS_POR_PAGINA - 1) / LINHAS_POR_PAGINA);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.model.dto.ConteudoArmazenadoDTO;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class ArmazenamentoServiceImpl implements ArmazenamentoService {
+
+    private static final Pattern HASH_VALIDO = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path diretorio;
+    private final ReconstrutorVersoes reconstrutorVersoes;
+
+    public ArmazenamentoServiceImpl(@Value("${api.armazenamento.diretorio}") String diretorio,
+                                    ReconstrutorVersoes reconstrutorVersoes) {
+        this.diretorio = Path.of(diretorio).toAbsolutePath().normalize();
+        this.reconstrutorVersoes = reconstrutorVersoes;
+    }
+
+    @Override
+    public ConteudoArmazenadoDTO armazenar(InputStream entrada) {
+        Path temporario = null;
+        try {
+            Files.createDirectories(diretorio);
+            temporario = Files.createTempFile(diretorio, "upload-", ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long tamanho;
+            try (InputStream in = new DigestInputStream(entrada, digest);
+                 OutputStream out = Files.newOutputStream(temporario)) {
+                tamanho = in.transferTo(out);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path destino = localizar(hash);
+            if (!Files.exists(destino)) {
+                Files.createDirectories(destino.getParent());
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            log.info("Conteúdo {} armazenado ({} bytes)", hash, tamanho);
+            return new ConteudoArmazenadoDTO(hash, tamanho);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("Falha ao armazenar conteúdo", e);
+            throw new ArmazenamentoException("Não foi possível armazenar o conteúdo do roteiro");
+        } finally {
+            apagarTemporario(temporario);
+        }
+    }
+
+    @Override
+    public InputStream abrir(String hash) {
+        try {
+            return Files.newInputStream(localizar(hash));
+        } catch (IOException e) {
+            log.error("Falha ao abrir conteúdo {}", hash, e);
+            throw new ArmazenamentoException("Conteúdo não encontrado: " + hash);
+        }
+    }
+
+    @Override
+    public Reader abrirConteudo(RoteiroBase roteiro) {
+        if (!roteiro.possuiConteudoArmazenado()) {
+            return new StringReader(roteiro.getConteudo());
+        }
+        if (!roteiro.conteudoAtualNoArquivo()) {
+            return new StringReader(reconstrutorVersoes.materializar(roteiro.getId(), roteiro.getVersaoConteudo()));
+        }
+        return new InputStreamReader(abrir(roteiro.getConteudoHash()), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void transferir(String hash, long inicio, long quantidade, OutputStream saida) {
+        try (FileChannel canal = FileChannel.open(localizar(hash), StandardOpenOption.READ)) {
+            WritableByteChannel destino = Channels.newChannel(saida);
+            long posicao = inicio;
+            long restante = quantidade;
+            while (restante > 0) {
+                long enviados = canal.transferTo(posicao, restante, destino);
+                if (enviados <= 0) {
+                    break;
+                }
+                posicao += enviados;
+                restante -= enviados;
+            }
+        } catch (IOException e) {
+            log.error("Falha ao transferir conteúdo {}", hash, e);
+            throw new ArmazenamentoException("Não foi possível ler o conteúdo: " + hash);
+        }
+    }
+
+    private Path localizar(String hash) {
+        if (hash == null || !HASH_VALIDO.matcher(hash).matches()) {
+            throw new ArmazenamentoException("Hash de conteúdo inválido: " + hash);
+        }
+        return diretorio.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private void apagarTemporario(Path temporario) {
+        if (temporario == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporario);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover arquivo temporário {}", temporario);
+        }
+    }
+}
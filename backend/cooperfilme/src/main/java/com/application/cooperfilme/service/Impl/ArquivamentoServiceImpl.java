@@ -0,0 +1,69 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ArquivamentoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+public class ArquivamentoServiceImpl implements ArquivamentoService {
+
+    private final RoteiroRepository roteiroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter arquivados;
+    private final int diasRetencao;
+    private final int tamanhoLote;
+    private final int maximoLotes;
+
+    public ArquivamentoServiceImpl(RoteiroRepository roteiroRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${api.arquivamento.dias:90}") int diasRetencao,
+                                   @Value("${api.arquivamento.lote:500}") int tamanhoLote,
+                                   @Value("${api.arquivamento.lotes-por-execucao:20}") int maximoLotes) {
+        this.roteiroRepository = roteiroRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.arquivados = Counter.builder("cooperfilme.roteiros.arquivados")
+                .description("Roteiros finalizados movidos para o arquivo")
+                .register(meterRegistry);
+        this.diasRetencao = diasRetencao;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoLotes = maximoLotes;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${api.arquivamento.intervalo-ms:3600000}",
+            initialDelayString = "${api.arquivamento.intervalo-ms:3600000}")
+    public int arquivar() {
+        if (diasRetencao <= 0) {
+            return 0;
+        }
+        LocalDateTime limite = LocalDateTime.now().minusDays(diasRetencao);
+        int total = 0;
+        int lotes = 0;
+        int movidos;
+        do {
+            movidos = transactionTemplate.execute(status -> roteiroRepository.arquivarFinalizados(limite, tamanhoLote));
+            total += movidos;
+            lotes++;
+            arquivados.increment(movidos);
+        } while (movidos == tamanhoLote && lotes < maximoLotes);
+
+        if (total > 0) {
+            log.info("{} roteiros finalizados antes de {} movidos para o arquivo", total, limite);
+        }
+        if (movidos == tamanhoLote) {
+            log.info("Limite de {} lotes atingido; o restante será arquivado na próxima execução", maximoLotes);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,198 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.TipoSugestao;
+import com.application.cooperfilme.model.dto.SugestaoDTO;
+import com.application.cooperfilme.repository.ClienteRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.AutocompletarService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class AutocompletarServiceImpl implements AutocompletarService {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final char SEPARADOR = '\u0000';
+    private static final int LIMITE_PENDENTES = 1024;
+    private static final int LIMITE_MAXIMO = 50;
+
+    private final RoteiroRepository roteiroRepository;
+    private final ClienteRepository clienteRepository;
+
+    private volatile Indice indice = new Indice(new String[0], new SugestaoDTO[0]);
+    private final ConcurrentSkipListMap<String, SugestaoDTO> pendentes = new ConcurrentSkipListMap<>();
+
+    public AutocompletarServiceImpl(RoteiroRepository roteiroRepository, ClienteRepository clienteRepository) {
+        this.roteiroRepository = roteiroRepository;
+        this.clienteRepository = clienteRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        int total = carregar();
+        log.info("Índice de autocompletar carregado com {} chaves", total);
+    }
+
+    @Override
+    public synchronized int carregar() {
+        List<Map.Entry<String, SugestaoDTO>> entradas = new ArrayList<>();
+        for (Object[] linha : roteiroRepository.findIdsETitulos()) {
+            gerarChaves(new SugestaoDTO(TipoSugestao.TITULO, (Long) linha[0], (String) linha[1]), entradas);
+        }
+        for (Object[] linha : clienteRepository.findIdsENomes()) {
+            gerarChaves(new SugestaoDTO(TipoSugestao.CLIENTE, (Long) linha[0], (String) linha[1]), entradas);
+        }
+        entradas.sort(Map.Entry.comparingByKey());
+
+        indice = Indice.de(entradas);
+        pendentes.clear();
+        return entradas.size();
+    }
+
+    @Override
+    public void adicionar(TipoSugestao tipo, Long id, String texto) {
+        if (id == null || texto == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incluir(tipo, id, texto);
+                }
+            });
+        } else {
+            incluir(tipo, id, texto);
+        }
+    }
+
+    private void incluir(TipoSugestao tipo, Long id, String texto) {
+        List<Map.Entry<String, SugestaoDTO>> entradas = new ArrayList<>();
+        gerarChaves(new SugestaoDTO(tipo, id, texto), entradas);
+        for (Map.Entry<String, SugestaoDTO> entrada : entradas) {
+            pendentes.put(entrada.getKey(), entrada.getValue());
+        }
+        if (pendentes.size() > LIMITE_PENDENTES) {
+            compactar();
+        }
+    }
+
+    @Override
+    public List<SugestaoDTO> sugerir(String prefixo, int limite) {
+        String chave = normalizar(prefixo);
+        if (chave.isEmpty()) {
+            return List.of();
+        }
+        int maximo = Math.clamp(limite, 1, LIMITE_MAXIMO);
+
+        Indice atual = indice;
+        List<String> chavesBase = new ArrayList<>(maximo);
+        List<SugestaoDTO> base = new ArrayList<>(maximo);
+        Set<SugestaoDTO> vistos = new HashSet<>();
+        int posicao = Arrays.binarySearch(atual.chaves(), chave);
+        for (int i = posicao < 0 ? -posicao - 1 : posicao;
+             i < atual.chaves().length && base.size() < maximo && atual.chaves()[i].startsWith(chave); i++) {
+            if (vistos.add(atual.sugestoes()[i])) {
+                chavesBase.add(atual.chaves()[i]);
+                base.add(atual.sugestoes()[i]);
+            }
+        }
+
+        ConcurrentNavigableMap<String, SugestaoDTO> novos = pendentes.subMap(chave, true, chave + Character.MAX_VALUE, false);
+        if (novos.isEmpty()) {
+            return base;
+        }
+
+        List<SugestaoDTO> resultado = new ArrayList<>(maximo);
+        Set<SugestaoDTO> incluidos = new HashSet<>();
+        var iteradorNovos = novos.entrySet().iterator();
+        Map.Entry<String, SugestaoDTO> proximoNovo = iteradorNovos.hasNext() ? iteradorNovos.next() : null;
+        int i = 0;
+        while (resultado.size() < maximo && (i < base.size() || proximoNovo != null)) {
+            SugestaoDTO sugestao;
+            if (proximoNovo == null || (i < base.size() && chavesBase.get(i).compareTo(proximoNovo.getKey()) <= 0)) {
+                sugestao = base.get(i++);
+            } else {
+                sugestao = proximoNovo.getValue();
+                proximoNovo = iteradorNovos.hasNext() ? iteradorNovos.next() : null;
+            }
+            if (incluidos.add(sugestao)) {
+                resultado.add(sugestao);
+            }
+        }
+        return resultado;
+    }
+
+    private synchronized void compactar() {
+        if (pendentes.size() <= LIMITE_PENDENTES) {
+            return;
+        }
+        Indice atual = indice;
+        List<Map.Entry<String, SugestaoDTO>> novos = new ArrayList<>(pendentes.entrySet());
+        List<Map.Entry<String, SugestaoDTO>> entradas = new ArrayList<>(atual.chaves().length + novos.size());
+
+        int i = 0;
+        int j = 0;
+        while (i < atual.chaves().length || j < novos.size()) {
+            if (j >= novos.size() || (i < atual.chaves().length && atual.chaves()[i].compareTo(novos.get(j).getKey()) < 0)) {
+                entradas.add(Map.entry(atual.chaves()[i], atual.sugestoes()[i]));
+                i++;
+            } else {
+                entradas.add(novos.get(j++));
+            }
+        }
+
+        indice = Indice.de(entradas);
+        for (Map.Entry<String, SugestaoDTO> entrada : novos) {
+            pendentes.remove(entrada.getKey(), entrada.getValue());
+        }
+    }
+
+    private static void gerarChaves(SugestaoDTO sugestao, List<Map.Entry<String, SugestaoDTO>> destino) {
+        String texto = normalizar(sugestao.texto());
+        String sufixo = SEPARADOR + sugestao.tipo().name() + SEPARADOR + sugestao.id();
+        for (int i = 0; i < texto.length(); i++) {
+            if (i == 0 || texto.charAt(i - 1) == ' ') {
+                destino.add(Map.entry(texto.substring(i) + sufixo, sugestao));
+            }
+        }
+    }
+
+    private static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    private record Indice(String[] chaves, SugestaoDTO[] sugestoes) {
+
+        static Indice de(List<Map.Entry<String, SugestaoDTO>> entradas) {
+            String[] chaves = new String[entradas.size()];
+            SugestaoDTO[] sugestoes = new SugestaoDTO[entradas.size()];
+            for (int i = 0; i < entradas.size(); i++) {
+                chaves[i] = entradas.get(i).getKey();
+                sugestoes[i] = entradas.get(i).getValue();
+            }
+            return new Indice(chaves, sugestoes);
+        }
+    }
+}
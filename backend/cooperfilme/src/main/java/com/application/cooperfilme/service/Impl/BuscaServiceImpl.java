@@ -0,0 +1,67 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.model.dto.ResultadoBuscaDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.BuscaService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BuscaServiceImpl implements BuscaService {
+
+    private static final int LIMITE_CARACTERES_INDEXADOS = 1_000_000;
+    private static final int TAMANHO_MAXIMO_PAGINA = 50;
+
+    private final RoteiroRepository roteiroRepository;
+    private final ArmazenamentoService armazenamentoService;
+
+    @Override
+    public void indexar(Roteiro roteiro) {
+        String conteudo = roteiro.possuiConteudoArmazenado() ? lerInicio(roteiro) : null;
+        roteiroRepository.atualizarDocumentoBusca(roteiro.getId(), conteudo);
+    }
+
+    @Override
+    public List<ResultadoBuscaDTO> buscar(String consulta, int pagina, int tamanho) {
+        if (consulta == null || consulta.isBlank()) {
+            return List.of();
+        }
+        int limite = Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA);
+        int deslocamento = Math.max(pagina, 0) * limite;
+
+        return roteiroRepository.buscarTextoCompleto(consulta, limite, deslocamento).stream()
+                .map(linha -> new ResultadoBuscaDTO(
+                        ((Number) linha[0]).longValue(),
+                        (String) linha[1],
+                        (String) linha[2],
+                        ((Number) linha[3]).doubleValue(),
+                        (String) linha[4]
+                ))
+                .toList();
+    }
+
+    private String lerInicio(Roteiro roteiro) {
+        StringBuilder texto = new StringBuilder();
+        char[] buffer = new char[8192];
+        try (Reader leitor = armazenamentoService.abrirConteudo(roteiro)) {
+            int lidos;
+            while (texto.length() < LIMITE_CARACTERES_INDEXADOS && (lidos = leitor.read(buffer)) != -1) {
+                texto.append(buffer, 0, Math.min(lidos, LIMITE_CARACTERES_INDEXADOS - texto.length()));
+            }
+        } catch (IOException e) {
+            log.error("Falha ao ler conteúdo do roteiro {} para indexação", roteiro.getId(), e);
+            throw new ArmazenamentoException("Não foi possível indexar o roteiro " + roteiro.getId());
+        }
+        return texto.toString();
+    }
+}
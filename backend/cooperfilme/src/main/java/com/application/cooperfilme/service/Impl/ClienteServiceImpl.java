@@ -1,23 +1,52 @@
 package com.application.cooperfilme.service.Impl;
 
+import com.application.cooperfilme.config.CacheConfig;
+import com.application.cooperfilme.enums.TipoSugestao;
+import com.application.cooperfilme.model.dto.ClientePortalDTO;
 import com.application.cooperfilme.model.dto.ClienteRespostaDTO;
 import com.application.cooperfilme.model.dto.RoteiroRespostaDTO;
 import com.application.cooperfilme.model.entity.Cliente;
 import com.application.cooperfilme.repository.ClienteRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.AutocompletarService;
 import com.application.cooperfilme.service.exceptions.ClienteNaoEncontradoException;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 
 @Service
 public class ClienteServiceImpl implements com.application.cooperfilme.service.ClienteService {
 
+    private static final int GERACOES_PORTAL = 4096;
+
     @Autowired
     ClienteRepository clienteRepository;
 
+    @Autowired
+    RoteiroRepository roteiroRepository;
+
+    @Autowired
+    AutocompletarService autocompletarService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private final AtomicLongArray geracoesPortal = new AtomicLongArray(GERACOES_PORTAL);
+
     @Override
     public Cliente buscarPorId(Long id) {
         return clienteRepository.findById(id).orElse(null);
@@ -27,23 +56,24 @@ public class ClienteServiceImpl implements com.application.cooperfilme.service.C
     public Cliente buscarOuCriarCliente(String nome, String email, String telefone) {
         return clienteRepository.findByEmail(email)
                 .orElseGet(() -> {
-                    Cliente novoCliente = new Cliente(nome, email, telefone);
-                    return clienteRepository.save(novoCliente);
+                    Cliente novoCliente = clienteRepository.save(new Cliente(nome, email, telefone));
+                    autocompletarService.adicionar(TipoSugestao.CLIENTE, novoCliente.getId(), novoCliente.getNome());
+                    return novoCliente;
                 });
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ClienteRespostaDTO buscarPorEmail(String email) {
-        Cliente cliente = clienteRepository.findByEmailWithRoteiros(email)
+        Cliente cliente = clienteRepository.findByEmail(email)
                 .orElseThrow(() -> new ClienteNaoEncontradoException(email));
 
-        List<RoteiroRespostaDTO> roteirosDTO = cliente.getRoteiros().stream()
-                .map(roteiro -> new RoteiroRespostaDTO(
-                        roteiro.getId(),
-                        roteiro.getTitulo(),
-                        roteiro.getStatus().name(),
-                        roteiro.getDataEnvio()
+        List<RoteiroRespostaDTO> roteirosDTO = roteiroRepository.findResumoByClienteId(cliente.getId()).stream()
+                .map(linha -> new RoteiroRespostaDTO(
+                        ((Number) linha[0]).longValue(),
+                        (String) linha[1],
+                        (String) linha[2],
+                        paraDataHora(linha[3])
                 ))
                 .toList();
 
@@ -56,4 +86,75 @@ public class ClienteServiceImpl implements com.application.cooperfilme.service.C
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ClientePortalDTO consultarPortal(String email) {
+        Cache cache = cacheManager.getCache(CacheConfig.PORTAL_CLIENTES);
+        long geracao = geracoesPortal.get(posicaoGeracao(email));
+        ClientePortalDTO emCache = cache != null ? cache.get(email, ClientePortalDTO.class) : null;
+        if (emCache != null && emCache.geracao() == geracao) {
+            return emCache;
+        }
+
+        ClienteRespostaDTO cliente = buscarPorEmail(email);
+        ClientePortalDTO portal = new ClientePortalDTO(cliente, calcularEtag(cliente), geracao);
+        if (cache != null) {
+            cache.put(email, portal);
+        }
+        return portal;
+    }
+
+    @Override
+    public void invalidarPortal(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    avancarGeracao(email);
+                }
+            });
+        } else {
+            avancarGeracao(email);
+        }
+    }
+
+    private void avancarGeracao(String email) {
+        geracoesPortal.incrementAndGet(posicaoGeracao(email));
+        Cache cache = cacheManager.getCache(CacheConfig.PORTAL_CLIENTES);
+        if (cache != null) {
+            cache.evict(email);
+        }
+    }
+
+    private int posicaoGeracao(String email) {
+        return Math.floorMod(email.hashCode(), geracoesPortal.length());
+    }
+
+    private LocalDateTime paraDataHora(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) valor;
+    }
+
+    private String calcularEtag(ClienteRespostaDTO cliente) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            atualizar(digest, cliente.id(), cliente.nome(), cliente.email(), cliente.telefone());
+            for (RoteiroRespostaDTO roteiro : cliente.roteiros()) {
+                atualizar(digest, roteiro.id(), roteiro.titulo(), roteiro.status(), roteiro.dataEnvio());
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private void atualizar(MessageDigest digest, Object... valores) {
+        for (Object valor : valores) {
+            digest.update(String.valueOf(valor).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
 }
@@ -0,0 +1,141 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.ContadoresStatusDTO;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ContadorStatusService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class ContadorStatusServiceImpl implements ContadorStatusService {
+
+    private static final int JANELA_SEGUNDOS = 15 * 60;
+
+    private final RoteiroRepository roteiroRepository;
+    private final Map<StatusRoteiro, LongAdder> quantidades = new EnumMap<>(StatusRoteiro.class);
+    private final Map<StatusRoteiro, LongAdder> entradas = new EnumMap<>(StatusRoteiro.class);
+    private final Map<StatusRoteiro, JanelaDeslizante> janelasPorStatus = new EnumMap<>(StatusRoteiro.class);
+    private final JanelaDeslizante janelaTransicoes = new JanelaDeslizante(JANELA_SEGUNDOS);
+
+    public ContadorStatusServiceImpl(RoteiroRepository roteiroRepository, MeterRegistry meterRegistry) {
+        this.roteiroRepository = roteiroRepository;
+        for (StatusRoteiro status : StatusRoteiro.values()) {
+            quantidades.put(status, new LongAdder());
+            entradas.put(status, new LongAdder());
+            janelasPorStatus.put(status, new JanelaDeslizante(JANELA_SEGUNDOS));
+
+            Gauge.builder("cooperfilme.roteiros.status", quantidades.get(status), LongAdder::sum)
+                    .description("Roteiros atualmente em cada status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            FunctionCounter.builder("cooperfilme.roteiros.transicoes", entradas.get(status), LongAdder::sum)
+                    .description("Transições de status desde a inicialização, por status de destino")
+                    .tag("para", status.name())
+                    .register(meterRegistry);
+            Gauge.builder("cooperfilme.roteiros.transicoes.ultimo.minuto", janelasPorStatus.get(status),
+                            janela -> janela.somar(System.currentTimeMillis(), 60))
+                    .description("Transições para o status no último minuto")
+                    .tag("para", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        reconciliar();
+    }
+
+    @Override
+    public void registrarTransicao(StatusRoteiro anterior, StatusRoteiro atual) {
+        if (anterior == atual) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aplicar(anterior, atual);
+                }
+            });
+        } else {
+            aplicar(anterior, atual);
+        }
+    }
+
+    @Override
+    public ContadoresStatusDTO consultar() {
+        long agora = System.currentTimeMillis();
+        Map<StatusRoteiro, Long> quantidadePorStatus = new EnumMap<>(StatusRoteiro.class);
+        Map<StatusRoteiro, Long> entradasUltimoMinuto = new EnumMap<>(StatusRoteiro.class);
+        for (StatusRoteiro status : StatusRoteiro.values()) {
+            quantidadePorStatus.put(status, quantidades.get(status).sum());
+            entradasUltimoMinuto.put(status, janelasPorStatus.get(status).somar(agora, 60));
+        }
+        return new ContadoresStatusDTO(
+                quantidadePorStatus,
+                entradasUltimoMinuto,
+                janelaTransicoes.somar(agora, 60),
+                janelaTransicoes.somar(agora, JANELA_SEGUNDOS) / (JANELA_SEGUNDOS / 60.0)
+        );
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${api.contadores.reconciliacao-ms:300000}",
+            initialDelayString = "${api.contadores.reconciliacao-ms:300000}")
+    @Transactional
+    public void reconciliar() {
+        Map<StatusRoteiro, Long> antes = somarQuantidades();
+        Map<StatusRoteiro, Long> banco = new EnumMap<>(StatusRoteiro.class);
+        for (Object[] linha : roteiroRepository.contarPorStatus()) {
+            banco.put((StatusRoteiro) linha[0], ((Number) linha[1]).longValue());
+        }
+        for (Object[] linha : roteiroRepository.contarArquivadosPorStatus()) {
+            banco.merge(StatusRoteiro.valueOf((String) linha[0]), ((Number) linha[1]).longValue(), Long::sum);
+        }
+        Map<StatusRoteiro, Long> depois = somarQuantidades();
+
+        for (StatusRoteiro status : StatusRoteiro.values()) {
+            if (!antes.get(status).equals(depois.get(status))) {
+                log.debug("Contador de {} alterado durante a reconciliação; ajuste adiado", status);
+                continue;
+            }
+            long diferenca = banco.getOrDefault(status, 0L) - depois.get(status);
+            if (diferenca != 0) {
+                quantidades.get(status).add(diferenca);
+                log.info("Contador de {} ajustado em {}", status, diferenca);
+            }
+        }
+    }
+
+    private void aplicar(StatusRoteiro anterior, StatusRoteiro atual) {
+        long agora = System.currentTimeMillis();
+        if (anterior != null) {
+            quantidades.get(anterior).decrement();
+        }
+        quantidades.get(atual).increment();
+        entradas.get(atual).increment();
+        janelasPorStatus.get(atual).registrar(agora);
+        janelaTransicoes.registrar(agora);
+    }
+
+    private Map<StatusRoteiro, Long> somarQuantidades() {
+        Map<StatusRoteiro, Long> somas = new EnumMap<>(StatusRoteiro.class);
+        quantidades.forEach((status, contador) -> somas.put(status, contador.sum()));
+        return somas;
+    }
+}
@@ -0,0 +1,94 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.PoliticaDuplicidade;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.repository.RoteiroArquivadoRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.DeduplicacaoService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
+import com.application.cooperfilme.service.exceptions.RoteiroDuplicadoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class DeduplicacaoServiceImpl implements DeduplicacaoService {
+
+    private static final int TAMANHO_BUFFER = 8192;
+
+    private final RoteiroRepository roteiroRepository;
+    private final RoteiroArquivadoRepository roteiroArquivadoRepository;
+    private final PoliticaDuplicidade politica;
+
+    public DeduplicacaoServiceImpl(RoteiroRepository roteiroRepository,
+                                   RoteiroArquivadoRepository roteiroArquivadoRepository,
+                                   @Value("${api.roteiro.duplicidade.politica:VINCULAR}") PoliticaDuplicidade politica) {
+        this.roteiroRepository = roteiroRepository;
+        this.roteiroArquivadoRepository = roteiroArquivadoRepository;
+        this.politica = politica;
+    }
+
+    @Override
+    public String calcularHash(Reader conteudo) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (Writer saida = new BufferedWriter(new OutputStreamWriter(
+                    new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8))) {
+                char[] buffer = new char[TAMANHO_BUFFER];
+                boolean inicio = true;
+                boolean espacoPendente = false;
+                int lidos;
+                while ((lidos = conteudo.read(buffer)) != -1) {
+                    for (int i = 0; i < lidos; i++) {
+                        char c = buffer[i];
+                        if (Character.isWhitespace(c)) {
+                            espacoPendente = !inicio;
+                            continue;
+                        }
+                        if (espacoPendente) {
+                            saida.write(' ');
+                            espacoPendente = false;
+                        }
+                        saida.write(c);
+                        inicio = false;
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("Falha ao calcular hash do conteúdo", e);
+            throw new ArmazenamentoException("Não foi possível calcular o hash do conteúdo");
+        }
+    }
+
+    @Override
+    public Optional<RoteiroBase> buscarOriginal(String hashNormalizado) {
+        Optional<RoteiroBase> ativo = roteiroRepository.findFirstByHashNormalizadoOrderByIdAsc(hashNormalizado)
+                .map(roteiro -> roteiro);
+        Optional<RoteiroBase> arquivado = roteiroArquivadoRepository.findFirstByHashNormalizadoOrderByIdAsc(hashNormalizado)
+                .map(roteiro -> roteiro);
+        Optional<RoteiroBase> original = Stream.of(ativo, arquivado)
+                .flatMap(Optional::stream)
+                .min(Comparator.comparing(RoteiroBase::getId));
+        if (original.isPresent() && politica == PoliticaDuplicidade.REJEITAR) {
+            throw new RoteiroDuplicadoException(original.get().getId());
+        }
+        return original;
+    }
+}
@@ -0,0 +1,290 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.TipoTrechoDiferenca;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+final class DiferencaLinhas {
+
+    record Operacao(TipoTrechoDiferenca tipo, int quantidade, List<String> linhas) {
+    }
+
+    private DiferencaLinhas() {
+    }
+
+    static List<String> dividir(String texto) {
+        List<String> linhas = new ArrayList<>();
+        int inicio = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) == '\n') {
+                linhas.add(texto.substring(inicio, i + 1));
+                inicio = i + 1;
+            }
+        }
+        if (inicio < texto.length()) {
+            linhas.add(texto.substring(inicio));
+        }
+        return linhas;
+    }
+
+    static List<Operacao> calcular(List<String> origem, List<String> destino, int maximoEdicoes) {
+        Map<String, Integer> identificadores = new HashMap<>();
+        int[] a = identificar(origem, identificadores);
+        int[] b = identificar(destino, identificadores);
+
+        int prefixo = 0;
+        while (prefixo < a.length && prefixo < b.length && a[prefixo] == b[prefixo]) {
+            prefixo++;
+        }
+        int sufixo = 0;
+        while (sufixo < a.length - prefixo && sufixo < b.length - prefixo
+                && a[a.length - 1 - sufixo] == b[b.length - 1 - sufixo]) {
+            sufixo++;
+        }
+
+        List<TipoTrechoDiferenca> passos = myers(a, prefixo, a.length - sufixo, b, prefixo, b.length - sufixo, maximoEdicoes);
+        if (passos == null) {
+            return null;
+        }
+
+        List<Operacao> operacoes = new ArrayList<>();
+        adicionar(operacoes, TipoTrechoDiferenca.IGUAL, prefixo, null);
+        int posicaoDestino = prefixo;
+        for (TipoTrechoDiferenca passo : passos) {
+            String linha = passo == TipoTrechoDiferenca.ADICIONADO ? destino.get(posicaoDestino) : null;
+            adicionar(operacoes, passo, 1, linha);
+            if (passo != TipoTrechoDiferenca.REMOVIDO) {
+                posicaoDestino++;
+            }
+        }
+        adicionar(operacoes, TipoTrechoDiferenca.IGUAL, sufixo, null);
+        return operacoes;
+    }
+
+    static List<String> aplicar(List<String> origem, List<Operacao> operacoes) {
+        List<String> resultado = new ArrayList<>(origem.size());
+        int posicao = 0;
+        for (Operacao operacao : operacoes) {
+            switch (operacao.tipo()) {
+                case IGUAL -> {
+                    resultado.addAll(origem.subList(posicao, posicao + operacao.quantidade()));
+                    posicao += operacao.quantidade();
+                }
+                case REMOVIDO -> posicao += operacao.quantidade();
+                case ADICIONADO -> resultado.addAll(operacao.linhas());
+            }
+        }
+        return resultado;
+    }
+
+    static byte[] codificar(List<Operacao> operacoes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream saida = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            saida.writeInt(operacoes.size());
+            for (Operacao operacao : operacoes) {
+                saida.writeByte(operacao.tipo().ordinal());
+                saida.writeInt(operacao.quantidade());
+                if (operacao.tipo() == TipoTrechoDiferenca.ADICIONADO) {
+                    for (String linha : operacao.linhas()) {
+                        byte[] conteudo = linha.getBytes(StandardCharsets.UTF_8);
+                        saida.writeInt(conteudo.length);
+                        saida.write(conteudo);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<Operacao> decodificar(byte[] dados) {
+        try (DataInputStream entrada = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(dados)))) {
+            int total = entrada.readInt();
+            List<Operacao> operacoes = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                TipoTrechoDiferenca tipo = TipoTrechoDiferenca.values()[entrada.readByte()];
+                int quantidade = entrada.readInt();
+                List<String> linhas = List.of();
+                if (tipo == TipoTrechoDiferenca.ADICIONADO) {
+                    linhas = new ArrayList<>(quantidade);
+                    for (int j = 0; j < quantidade; j++) {
+                        linhas.add(new String(entrada.readNBytes(entrada.readInt()), StandardCharsets.UTF_8));
+                    }
+                }
+                operacoes.add(new Operacao(tipo, quantidade, linhas));
+            }
+            return operacoes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] comprimir(String texto) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream saida = new DeflaterOutputStream(bytes)) {
+            saida.write(texto.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String descomprimir(byte[] dados) {
+        try (InflaterInputStream entrada = new InflaterInputStream(new ByteArrayInputStream(dados))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int[] identificar(List<String> linhas, Map<String, Integer> identificadores) {
+        int[] ids = new int[linhas.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = identificadores.computeIfAbsent(linhas.get(i), chave -> identificadores.size());
+        }
+        return ids;
+    }
+
+    private static List<TipoTrechoDiferenca> myers(int[] a, int inicioA, int fimA, int[] b, int inicioB, int fimB, int maximoEdicoes) {
+        List<TipoTrechoDiferenca> passos = new ArrayList<>();
+        return comparar(a, inicioA, fimA, b, inicioB, fimB, maximoEdicoes, passos) ? passos : null;
+    }
+
+    private static boolean comparar(int[] a, int inicioA, int fimA, int[] b, int inicioB, int fimB,
+                                    int maximoEdicoes, List<TipoTrechoDiferenca> passos) {
+        while (inicioA < fimA && inicioB < fimB && a[inicioA] == b[inicioB]) {
+            passos.add(TipoTrechoDiferenca.IGUAL);
+            inicioA++;
+            inicioB++;
+        }
+        int sufixo = 0;
+        while (inicioA < fimA - sufixo && inicioB < fimB - sufixo
+                && a[fimA - 1 - sufixo] == b[fimB - 1 - sufixo]) {
+            sufixo++;
+        }
+        fimA -= sufixo;
+        fimB -= sufixo;
+
+        int n = fimA - inicioA;
+        int m = fimB - inicioB;
+        if (n == 0 || m == 0) {
+            if (n + m > maximoEdicoes) {
+                return false;
+            }
+            repetir(passos, TipoTrechoDiferenca.REMOVIDO, n);
+            repetir(passos, TipoTrechoDiferenca.ADICIONADO, m);
+        } else {
+            int[] corte = bissecar(a, inicioA, fimA, b, inicioB, fimB, maximoEdicoes);
+            if (corte == null) {
+                return false;
+            }
+            comparar(a, inicioA, inicioA + corte[0], b, inicioB, inicioB + corte[1], Integer.MAX_VALUE, passos);
+            comparar(a, inicioA + corte[0], fimA, b, inicioB + corte[1], fimB, Integer.MAX_VALUE, passos);
+        }
+        repetir(passos, TipoTrechoDiferenca.IGUAL, sufixo);
+        return true;
+    }
+
+    private static int[] bissecar(int[] a, int inicioA, int fimA, int[] b, int inicioB, int fimB, int maximoEdicoes) {
+        int n = fimA - inicioA;
+        int m = fimB - inicioB;
+        int delta = n - m;
+        boolean impar = (delta & 1) != 0;
+        int rodadas = (int) Math.min((n + m + 1) / 2 + 1L, (maximoEdicoes + 1L) / 2 + 1);
+        int deslocamento = rodadas + 1;
+        int[] frente = new int[2 * deslocamento + 1];
+        int[] tras = new int[2 * deslocamento + 1];
+        Arrays.fill(frente, -1);
+        Arrays.fill(tras, -1);
+        frente[deslocamento + 1] = 0;
+        tras[deslocamento + 1] = 0;
+        int inicioFrente = 0;
+        int fimFrente = 0;
+        int inicioTras = 0;
+        int fimTras = 0;
+
+        for (int d = 0; d < rodadas; d++) {
+            for (int k = -d + inicioFrente; k <= d - fimFrente; k += 2) {
+                int i = deslocamento + k;
+                int x = (k == -d || (k != d && frente[i - 1] < frente[i + 1])) ? frente[i + 1] : frente[i - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[inicioA + x] == b[inicioB + y]) {
+                    x++;
+                    y++;
+                }
+                frente[i] = x;
+                if (x > n) {
+                    fimFrente += 2;
+                } else if (y > m) {
+                    inicioFrente += 2;
+                } else if (impar) {
+                    int j = deslocamento + delta - k;
+                    if (j >= 0 && j < tras.length && tras[j] != -1 && x >= n - tras[j]) {
+                        return 2 * d - 1 <= maximoEdicoes ? new int[]{x, y} : null;
+                    }
+                }
+            }
+            for (int k = -d + inicioTras; k <= d - fimTras; k += 2) {
+                int i = deslocamento + k;
+                int x = (k == -d || (k != d && tras[i - 1] < tras[i + 1])) ? tras[i + 1] : tras[i - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[fimA - 1 - x] == b[fimB - 1 - y]) {
+                    x++;
+                    y++;
+                }
+                tras[i] = x;
+                if (x > n) {
+                    fimTras += 2;
+                } else if (y > m) {
+                    inicioTras += 2;
+                } else if (!impar) {
+                    int j = deslocamento + delta - k;
+                    if (j >= 0 && j < frente.length && frente[j] != -1 && frente[j] >= n - x) {
+                        return 2 * d <= maximoEdicoes ? new int[]{frente[j], frente[j] - delta + k} : null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void repetir(List<TipoTrechoDiferenca> passos, TipoTrechoDiferenca tipo, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            passos.add(tipo);
+        }
+    }
+
+    private static void adicionar(List<Operacao> operacoes, TipoTrechoDiferenca tipo, int quantidade, String linha) {
+        if (quantidade == 0) {
+            return;
+        }
+        Operacao ultima = operacoes.isEmpty() ? null : operacoes.get(operacoes.size() - 1);
+        if (ultima != null && ultima.tipo() == tipo) {
+            List<String> linhas = ultima.linhas();
+            if (linha != null) {
+                linhas.add(linha);
+            }
+            operacoes.set(operacoes.size() - 1, new Operacao(tipo, ultima.quantidade() + quantidade, linhas));
+            return;
+        }
+        List<String> linhas = new ArrayList<>();
+        if (linha != null) {
+            linhas.add(linha);
+        }
+        operacoes.add(new Operacao(tipo, quantidade, linhas));
+    }
+}
@@ -0,0 +1,120 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.model.dto.ConsultaSqlDTO;
+import com.application.cooperfilme.service.EstatisticaConsultaService;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class EstatisticaConsultaServiceImpl implements EstatisticaConsultaService {
+
+    private static final int MAXIMO_IMPRESSOES = 500;
+    private static final int MAXIMO_SQL_CONHECIDOS = 5_000;
+    private static final int MAXIMO_LIMITE = 100;
+    private static final long MAXIMO_MICROS = Duration.ofMinutes(10).toNanos() / 1_000;
+    private static final String OUTRAS = "(outras consultas)";
+
+    private final long limiteLentaNanos;
+    private final double amostragemLentas;
+    private final ConcurrentHashMap<String, Agregado> porSql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Agregado> porImpressao = new ConcurrentHashMap<>();
+
+    private static final class Agregado {
+        private final String impressao;
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder lentas = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maximoNanos = new LongAccumulator(Math::max, 0);
+        private final ConcurrentHistogram micros = new ConcurrentHistogram(MAXIMO_MICROS, 2);
+        private volatile String formaParametros;
+
+        private Agregado(String impressao) {
+            this.impressao = impressao;
+        }
+
+        private void registrar(long nanos, boolean lenta) {
+            execucoes.increment();
+            totalNanos.add(nanos);
+            maximoNanos.accumulate(nanos);
+            micros.recordValue(Math.min(nanos / 1_000, MAXIMO_MICROS));
+            if (lenta) {
+                lentas.increment();
+            }
+        }
+    }
+
+    public EstatisticaConsultaServiceImpl(@Value("${api.sql.lenta-ms:200}") long limiteLentaMs,
+                                          @Value("${api.sql.amostragem-lentas:1.0}") double amostragemLentas) {
+        this.limiteLentaNanos = Duration.ofMillis(limiteLentaMs).toNanos();
+        this.amostragemLentas = amostragemLentas;
+    }
+
+    @Override
+    public boolean registrar(String sql, long nanos) {
+        Agregado agregado = porSql.get(sql);
+        if (agregado == null) {
+            agregado = resolver(sql);
+        }
+        boolean lenta = nanos >= limiteLentaNanos;
+        agregado.registrar(nanos, lenta);
+        return lenta && (amostragemLentas >= 1.0 || ThreadLocalRandom.current().nextDouble() < amostragemLentas);
+    }
+
+    @Override
+    public void registrarLenta(String sql, long nanos, String formaParametros) {
+        Agregado agregado = porSql.get(sql);
+        if (agregado != null) {
+            agregado.formaParametros = formaParametros;
+        }
+        log.warn("consulta_lenta duracao_ms={} parametros={} sql={}",
+                nanos / 1_000_000, formaParametros, agregado != null ? agregado.impressao : ImpressaoSql.calcular(sql));
+    }
+
+    @Override
+    public List<ConsultaSqlDTO> listarMaisCustosas(int limite) {
+        return porImpressao.values().stream()
+                .sorted(Comparator.comparingLong((Agregado agregado) -> agregado.totalNanos.sum()).reversed())
+                .limit(Math.clamp(limite, 1, MAXIMO_LIMITE))
+                .map(agregado -> {
+                    long execucoes = agregado.execucoes.sum();
+                    long totalNanos = agregado.totalNanos.sum();
+                    return new ConsultaSqlDTO(
+                            agregado.impressao,
+                            execucoes,
+                            agregado.lentas.sum(),
+                            totalNanos / 1_000_000.0,
+                            execucoes > 0 ? totalNanos / 1_000_000.0 / execucoes : 0,
+                            agregado.micros.getValueAtPercentile(50) / 1_000.0,
+                            agregado.micros.getValueAtPercentile(95) / 1_000.0,
+                            agregado.micros.getValueAtPercentile(99) / 1_000.0,
+                            agregado.maximoNanos.get() / 1_000_000.0,
+                            agregado.formaParametros
+                    );
+                })
+                .toList();
+    }
+
+    private Agregado resolver(String sql) {
+        String impressao = ImpressaoSql.calcular(sql);
+        Agregado agregado = porImpressao.get(impressao);
+        if (agregado == null) {
+            String chave = porImpressao.size() < MAXIMO_IMPRESSOES ? impressao : OUTRAS;
+            agregado = porImpressao.computeIfAbsent(chave, Agregado::new);
+        }
+        if (porSql.size() < MAXIMO_SQL_CONHECIDOS) {
+            porSql.putIfAbsent(sql, agregado);
+        }
+        return agregado;
+    }
+}
@@ -0,0 +1,201 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.StatusProcessamento;
+import com.application.cooperfilme.event.RoteiroEnviadoEvent;
+import com.application.cooperfilme.model.dto.EstruturaRoteiroDTO;
+import com.application.cooperfilme.model.entity.EstruturaRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.repository.EstruturaRoteiroRepository;
+import com.application.cooperfilme.repository.RoteiroArquivadoRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.EstruturaRoteiroService;
+import com.application.cooperfilme.service.exceptions.RoteiroNaoEncontradoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+@Service
+@Slf4j
+public class EstruturaRoteiroServiceImpl implements EstruturaRoteiroService {
+
+    private static final int TAMANHO_BLOCO = 256 * 1024;
+
+    private final RoteiroRepository roteiroRepository;
+    private final RoteiroArquivadoRepository roteiroArquivadoRepository;
+    private final EstruturaRoteiroRepository estruturaRoteiroRepository;
+    private final ArmazenamentoService armazenamentoService;
+    private final ForkJoinPool analiseForkJoinPool;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration atrasoReprocessamento;
+    private final int loteReprocessamento;
+
+    public EstruturaRoteiroServiceImpl(RoteiroRepository roteiroRepository,
+                                       RoteiroArquivadoRepository roteiroArquivadoRepository,
+                                       EstruturaRoteiroRepository estruturaRoteiroRepository,
+                                       ArmazenamentoService armazenamentoService,
+                                       ForkJoinPool analiseForkJoinPool,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${api.estrutura.reprocessamento-ms:300000}") long atrasoReprocessamentoMs,
+                                       @Value("${api.estrutura.reprocessamento-lote:100}") int loteReprocessamento) {
+        this.roteiroRepository = roteiroRepository;
+        this.roteiroArquivadoRepository = roteiroArquivadoRepository;
+        this.estruturaRoteiroRepository = estruturaRoteiroRepository;
+        this.armazenamentoService = armazenamentoService;
+        this.analiseForkJoinPool = analiseForkJoinPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.atrasoReprocessamento = Duration.ofMillis(atrasoReprocessamentoMs);
+        this.loteReprocessamento = loteReprocessamento;
+    }
+
+    @Async("processamentoExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void aoEnviarRoteiro(RoteiroEnviadoEvent evento) {
+        processar(evento.roteiroId());
+    }
+
+    @Scheduled(fixedDelayString = "${api.estrutura.reprocessamento-ms:300000}",
+            initialDelayString = "${api.estrutura.reprocessamento-ms:300000}")
+    public void reprocessarPendentes() {
+        List<Long> pendentes = estruturaRoteiroRepository.findPendentes(
+                LocalDateTime.now().minus(atrasoReprocessamento), loteReprocessamento);
+        for (Long roteiroId : pendentes) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processar(roteiroId));
+            } catch (RuntimeException e) {
+                log.warn("Reprocessamento da estrutura do roteiro {} falhou", roteiroId, e);
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            log.info("{} estruturas pendentes ou com falha reprocessadas", pendentes.size());
+        }
+    }
+
+    @Override
+    public void processar(Long roteiroId) {
+        Roteiro roteiro = roteiroRepository.findById(roteiroId)
+                .orElseThrow(() -> new RoteiroNaoEncontradoException(String.valueOf(roteiroId)));
+        EstruturaRoteiro estrutura = estruturaRoteiroRepository.findById(roteiroId)
+                .orElseGet(() -> new EstruturaRoteiro(roteiroId));
+
+        try (Reader leitor = armazenamentoService.abrirConteudo(roteiro)) {
+            AnalisadorFountain.Resultado resultado = analisar(leitor);
+            estrutura.setCenas(resultado.cenas);
+            estrutura.setTransicoes(resultado.transicoes);
+            estrutura.setLinhasDialogo(resultado.linhasDialogo);
+            estrutura.setPalavras(resultado.palavras);
+            estrutura.setPaginasEstimadas(resultado.paginasEstimadas());
+            estrutura.setPersonagens(resultado.falasPorPersonagem.size());
+            estrutura.getFalasPorPersonagem().clear();
+            estrutura.getFalasPorPersonagem().putAll(resultado.falasPorPersonagem);
+            estrutura.setStatus(StatusProcessamento.CONCLUIDO);
+            log.info("Estrutura do roteiro {} processada: {} cenas, {} personagens", roteiroId, resultado.cenas, resultado.falasPorPersonagem.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao processar estrutura do roteiro {}", roteiroId, e);
+            estrutura.setStatus(StatusProcessamento.FALHOU);
+        }
+
+        estrutura.setDataProcessamento(LocalDateTime.now());
+        estruturaRoteiroRepository.save(estrutura);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EstruturaRoteiroDTO buscar(Long roteiroId) {
+        return estruturaRoteiroRepository.findById(roteiroId)
+                .map(estrutura -> new EstruturaRoteiroDTO(
+                        estrutura.getRoteiroId(),
+                        estrutura.getStatus().name(),
+                        estrutura.getCenas(),
+                        estrutura.getPersonagens(),
+                        estrutura.getTransicoes(),
+                        estrutura.getLinhasDialogo(),
+                        estrutura.getPalavras(),
+                        estrutura.getPaginasEstimadas(),
+                        ordenarPorFalas(estrutura.getFalasPorPersonagem()),
+                        estrutura.getDataProcessamento()
+                ))
+                .orElseGet(() -> {
+                    if (!roteiroRepository.existsById(roteiroId)
+                            && !roteiroArquivadoRepository.existsById(roteiroId)) {
+                        throw new RoteiroNaoEncontradoException(String.valueOf(roteiroId));
+                    }
+                    return new EstruturaRoteiroDTO(
+                            roteiroId, StatusProcessamento.PENDENTE.name(), 0, 0, 0, 0, 0, 0, Map.of(), null);
+                });
+    }
+
+    private AnalisadorFountain.Resultado analisar(Reader leitor) throws IOException {
+        List<ForkJoinTask<AnalisadorFountain.Resultado>> tarefas = new ArrayList<>();
+        BufferedReader linhas = new BufferedReader(leitor);
+        StringBuilder bloco = new StringBuilder();
+        boolean emBoneyard = false;
+        String linha;
+        while ((linha = linhas.readLine()) != null) {
+            bloco.append(linha).append('\n');
+            emBoneyard = atualizarBoneyard(linha, emBoneyard);
+            if (bloco.length() >= TAMANHO_BLOCO && linha.isBlank() && !emBoneyard) {
+                tarefas.add(submeter(bloco.toString()));
+                bloco.setLength(0);
+            }
+        }
+
+        if (tarefas.isEmpty()) {
+            return new AnalisadorFountain().analisar(bloco.toString());
+        }
+        if (!bloco.isEmpty()) {
+            tarefas.add(submeter(bloco.toString()));
+        }
+
+        AnalisadorFountain.Resultado total = new AnalisadorFountain.Resultado();
+        for (ForkJoinTask<AnalisadorFountain.Resultado> tarefa : tarefas) {
+            total.combinar(tarefa.join());
+        }
+        return total;
+    }
+
+    private ForkJoinTask<AnalisadorFountain.Resultado> submeter(String bloco) {
+        return analiseForkJoinPool.submit(() -> new AnalisadorFountain().analisar(bloco));
+    }
+
+    private static boolean atualizarBoneyard(String linha, boolean emBoneyard) {
+        int posicao = 0;
+        while (true) {
+            int marcador = linha.indexOf(emBoneyard ? "*/" : "/*", posicao);
+            if (marcador < 0) {
+                return emBoneyard;
+            }
+            emBoneyard = !emBoneyard;
+            posicao = marcador + 2;
+        }
+    }
+
+    private static Map<String, Integer> ordenarPorFalas(Map<String, Integer> falas) {
+        Map<String, Integer> ordenado = new LinkedHashMap<>();
+        falas.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entrada -> ordenado.put(entrada.getKey(), entrada.getValue()));
+        return ordenado;
+    }
+}
@@ -0,0 +1,21 @@
+package com.application.cooperfilme.service.Impl;
+
+import java.util.regex.Pattern;
+
+final class ImpressaoSql {
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private ImpressaoSql() {
+    }
+
+    static String calcular(String sql) {
+        String impressao = TEXTO.matcher(sql).replaceAll("?");
+        impressao = NUMERO.matcher(impressao).replaceAll("?");
+        impressao = LISTA.matcher(impressao).replaceAll("(?...)");
+        return ESPACOS.matcher(impressao).replaceAll(" ").trim();
+    }
+}
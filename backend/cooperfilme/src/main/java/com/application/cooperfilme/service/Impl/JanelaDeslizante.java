@@ -0,0 +1,45 @@
+package com.application.cooperfilme.service.Impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class JanelaDeslizante {
+
+    private static final long MASCARA_CONTAGEM = 0xFFFF_FFFFL;
+
+    private final int segundos;
+    private final AtomicLongArray posicoes;
+
+    JanelaDeslizante(int segundos) {
+        this.segundos = segundos;
+        this.posicoes = new AtomicLongArray(segundos);
+    }
+
+    void registrar(long agoraMillis) {
+        long segundo = agoraMillis / 1000;
+        int posicao = (int) (segundo % segundos);
+        long atual;
+        long novo;
+        do {
+            atual = posicoes.get(posicao);
+            long contagem = segundoDe(atual) == segundo ? (atual & MASCARA_CONTAGEM) : 0;
+            novo = (segundo << 32) | Math.min(contagem + 1, MASCARA_CONTAGEM);
+        } while (!posicoes.compareAndSet(posicao, atual, novo));
+    }
+
+    long somar(long agoraMillis, int ultimosSegundos) {
+        long segundo = agoraMillis / 1000;
+        int alcance = Math.min(ultimosSegundos, segundos);
+        long total = 0;
+        for (int i = 0; i < segundos; i++) {
+            long valor = posicoes.get(i);
+            if (valor != 0 && segundo - segundoDe(valor) < alcance) {
+                total += valor & MASCARA_CONTAGEM;
+            }
+        }
+        return total;
+    }
+
+    private static long segundoDe(long valor) {
+        return valor >>> 32;
+    }
+}
@@ -0,0 +1,111 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.MotivoNegacao;
+import com.application.cooperfilme.service.exceptions.PermissaoNegadaException;
+import com.application.cooperfilme.service.exceptions.RoteiroNaoEncontradoException;
+import com.application.cooperfilme.service.exceptions.UsuarioNaoEncontradoException;
+import com.application.cooperfilme.service.exceptions.VersaoDesatualizadaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+class MetricasRoteiro {
+
+    enum Operacao {
+        ENVIAR_ROTEIRO("enviarRoteiro"),
+        ENVIAR_ROTEIRO_ARQUIVO("enviarRoteiroArquivo"),
+        ASSUMIR_ANALISE("assumirAnalise"),
+        ANALISAR_ROTEIRO("analisarRoteiro"),
+        ASSUMIR_REVISAO("assumirRevisao"),
+        REVISAR_ROTEIRO("revisarRoteiro"),
+        VOTAR_ROTEIRO("votarRoteiro"),
+        LISTAR_ROTEIROS("listarRoteiros");
+
+        private final String nome;
+
+        Operacao(String nome) {
+            this.nome = nome;
+        }
+    }
+
+    private record Medidores(Timer sucesso, Timer permissaoNegada, Timer versaoDesatualizada, Timer naoEncontrado,
+                             Timer erro, Counter[] negacoesPorMotivo) {
+    }
+
+    private final Medidores[] medidores = new Medidores[Operacao.values().length];
+
+    MetricasRoteiro(MeterRegistry meterRegistry) {
+        for (Operacao operacao : Operacao.values()) {
+            Counter[] negacoes = new Counter[MotivoNegacao.values().length];
+            for (MotivoNegacao motivo : MotivoNegacao.values()) {
+                negacoes[motivo.ordinal()] = Counter.builder("cooperfilme.roteiros.permissoes.negadas")
+                        .description("Operações recusadas por falta de permissão, por motivo")
+                        .tag("operacao", operacao.nome)
+                        .tag("motivo", motivo.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+            medidores[operacao.ordinal()] = new Medidores(
+                    temporizador(operacao, "sucesso").publishPercentileHistogram().register(meterRegistry),
+                    temporizador(operacao, "permissao_negada").register(meterRegistry),
+                    temporizador(operacao, "versao_desatualizada").register(meterRegistry),
+                    temporizador(operacao, "nao_encontrado").register(meterRegistry),
+                    temporizador(operacao, "erro").register(meterRegistry),
+                    negacoes
+            );
+        }
+    }
+
+    <T> T medir(Operacao operacao, Supplier<T> acao) {
+        Medidores medidor = medidores[operacao.ordinal()];
+        long inicio = System.nanoTime();
+        try {
+            T resultado = acao.get();
+            registrarAoConcluir(medidor, inicio);
+            return resultado;
+        } catch (PermissaoNegadaException e) {
+            registrar(medidor.permissaoNegada(), inicio);
+            medidor.negacoesPorMotivo()[e.getMotivo().ordinal()].increment();
+            throw e;
+        } catch (VersaoDesatualizadaException e) {
+            registrar(medidor.versaoDesatualizada(), inicio);
+            throw e;
+        } catch (RoteiroNaoEncontradoException | UsuarioNaoEncontradoException e) {
+            registrar(medidor.naoEncontrado(), inicio);
+            throw e;
+        } catch (RuntimeException e) {
+            registrar(medidor.erro(), inicio);
+            throw e;
+        }
+    }
+
+    private void registrarAoConcluir(Medidores medidor, long inicio) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registrar(medidor.sucesso(), inicio);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                registrar(status == STATUS_COMMITTED ? medidor.sucesso() : medidor.erro(), inicio);
+            }
+        });
+    }
+
+    private void registrar(Timer timer, long inicio) {
+        timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer.Builder temporizador(Operacao operacao, String resultado) {
+        return Timer.builder("cooperfilme.roteiros.operacoes")
+                .description("Duração das operações do fluxo de roteiros, por resultado")
+                .tag("operacao", operacao.nome)
+                .tag("resultado", resultado);
+    }
+}
@@ -0,0 +1,106 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.ProdutividadeUsuarioDTO;
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.repository.ProdutividadeUsuarioRepository;
+import com.application.cooperfilme.service.ProdutividadeService;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProdutividadeServiceImpl implements ProdutividadeService {
+
+    private final ProdutividadeUsuarioRepository produtividadeUsuarioRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconciliarPosse() {
+        int usuarios = produtividadeUsuarioRepository.reconciliarPosse(semanaAtual());
+        log.info("Itens em posse reconciliados para {} usuários", usuarios);
+    }
+
+    @Override
+    public void registrarTransicao(Roteiro roteiro, StatusRoteiro anterior, EtapaRoteiro etapaEncerrada) {
+        if (anterior == roteiro.getStatus()) {
+            return;
+        }
+
+        if (emAtendimento(roteiro.getStatus()) && roteiro.getUsuarioResponsavel() != null) {
+            acumular(roteiro.getUsuarioResponsavel().getId(), 1, 0, 0, 0, 0, 0);
+        }
+
+        if (emAtendimento(anterior)) {
+            Long usuarioId = etapaEncerrada != null && etapaEncerrada.getUsuarioId() != null
+                    ? etapaEncerrada.getUsuarioId()
+                    : roteiro.getUsuarioResponsavel().getId();
+            long medidos = etapaEncerrada != null ? 1 : 0;
+            long segundos = etapaEncerrada != null ? etapaEncerrada.getDuracaoSegundos() : 0;
+            long aprovados = 0;
+            long reprovados = 0;
+            if (anterior == StatusRoteiro.EM_ANALISE) {
+                aprovados = roteiro.getStatus() == StatusRoteiro.RECUSADO ? 0 : 1;
+                reprovados = 1 - aprovados;
+            }
+            acumular(usuarioId, -1, 1, medidos, segundos, aprovados, reprovados);
+        }
+    }
+
+    @Override
+    public void registrarVoto(Long usuarioId, boolean aprovado) {
+        acumular(usuarioId, 0, 1, 0, 0, aprovado ? 1 : 0, aprovado ? 0 : 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProdutividadeUsuarioDTO> listarEquipe() {
+        LocalDate semana = semanaAtual();
+        return produtividadeUsuarioRepository.listarEquipe().stream()
+                .map(linha -> {
+                    long medidos = numero(linha[7]);
+                    long aprovados = numero(linha[9]);
+                    long decisoes = aprovados + numero(linha[10]);
+                    return new ProdutividadeUsuarioDTO(
+                            (Long) linha[0],
+                            (String) linha[1],
+                            (Cargo) linha[2],
+                            numero(linha[3]),
+                            semana.equals(linha[4]) ? numero(linha[5]) : 0,
+                            numero(linha[6]),
+                            medidos > 0 ? (double) numero(linha[8]) / medidos : null,
+                            decisoes > 0 ? (double) aprovados / decisoes : null
+                    );
+                })
+                .toList();
+    }
+
+    private void acumular(Long usuarioId, long posse, long concluidos, long medidos, long segundos,
+                          long aprovados, long reprovados) {
+        produtividadeUsuarioRepository.acumular(usuarioId, posse, semanaAtual(), concluidos, medidos, segundos,
+                aprovados, reprovados);
+    }
+
+    private boolean emAtendimento(StatusRoteiro status) {
+        return status == StatusRoteiro.EM_ANALISE || status == StatusRoteiro.EM_REVISAO;
+    }
+
+    private LocalDate semanaAtual() {
+        return LocalDate.now().with(DayOfWeek.MONDAY);
+    }
+
+    private long numero(Object valor) {
+        return valor == null ? 0 : ((Number) valor).longValue();
+    }
+}
@@ -0,0 +1,130 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.CartaoQuadroDTO;
+import com.application.cooperfilme.model.dto.ColunaQuadroDTO;
+import com.application.cooperfilme.model.dto.VerificacaoProjecaoDTO;
+import com.application.cooperfilme.model.entity.Cliente;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.repository.RoteiroResumoRepository;
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class ProjecaoRoteiroServiceImpl implements ProjecaoRoteiroService {
+
+    private static final int MAXIMO_IDS_RELATADOS = 100;
+    private static final int MAXIMO_CARTOES_POR_COLUNA = 50;
+
+    private final RoteiroResumoRepository roteiroResumoRepository;
+    private final boolean reconstruirNaInicializacao;
+
+    public ProjecaoRoteiroServiceImpl(RoteiroResumoRepository roteiroResumoRepository,
+                                      @Value("${api.projecao.reconstruir-na-inicializacao:false}") boolean reconstruirNaInicializacao) {
+        this.roteiroResumoRepository = roteiroResumoRepository;
+        this.reconstruirNaInicializacao = reconstruirNaInicializacao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirSeConfigurado() {
+        if (reconstruirNaInicializacao) {
+            reconstruir();
+        }
+    }
+
+    @Override
+    public void atualizar(Roteiro roteiro, LocalDateTime momento) {
+        Cliente cliente = roteiro.getCliente();
+        Usuario responsavel = roteiro.getUsuarioResponsavel();
+
+        roteiroResumoRepository.gravar(
+                roteiro.getId(),
+                roteiro.getTitulo(),
+                roteiro.getStatus().name(),
+                cliente.getId(),
+                cliente.getNome(),
+                cliente.getEmail(),
+                responsavel != null ? responsavel.getId() : null,
+                responsavel != null ? responsavel.getNome() : null,
+                responsavel != null ? responsavel.getEmail() : null,
+                roteiro.contarVotosAprovados(),
+                roteiro.contarVotosReprovados(),
+                roteiro.getDataEnvio(),
+                momento);
+    }
+
+    @Override
+    @Transactional
+    public int reconstruir() {
+        int removidos = roteiroResumoRepository.removerOrfaos();
+        int atualizados = roteiroResumoRepository.reconstruir();
+        log.info("Projeção de roteiros reconstruída: {} linhas gravadas, {} órfãs removidas", atualizados, removidos);
+        return atualizados;
+    }
+
+    @Override
+    @Transactional
+    public VerificacaoProjecaoDTO verificar() {
+        List<Long> divergentes = roteiroResumoRepository.findDivergentes();
+        if (!divergentes.isEmpty()) {
+            log.warn("Projeção de roteiros com {} linhas divergentes", divergentes.size());
+        }
+        return new VerificacaoProjecaoDTO(
+                divergentes.isEmpty(),
+                divergentes.size(),
+                divergentes.subList(0, Math.min(divergentes.size(), MAXIMO_IDS_RELATADOS))
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ColunaQuadroDTO> montarQuadro(int limitePorColuna) {
+        int limite = Math.clamp(limitePorColuna, 0, MAXIMO_CARTOES_POR_COLUNA);
+
+        Map<StatusRoteiro, Long> totais = new EnumMap<>(StatusRoteiro.class);
+        Map<StatusRoteiro, List<CartaoQuadroDTO>> cartoes = new EnumMap<>(StatusRoteiro.class);
+        for (Object[] linha : roteiroResumoRepository.montarQuadro(Math.max(limite, 1))) {
+            StatusRoteiro status = StatusRoteiro.valueOf((String) linha[0]);
+            totais.put(status, ((Number) linha[1]).longValue());
+            if (limite > 0) {
+                cartoes.computeIfAbsent(status, s -> new ArrayList<>()).add(new CartaoQuadroDTO(
+                        ((Number) linha[2]).longValue(),
+                        (String) linha[3],
+                        (String) linha[4],
+                        (String) linha[5],
+                        paraDataHora(linha[6])
+                ));
+            }
+        }
+
+        return Arrays.stream(StatusRoteiro.values())
+                .map(status -> new ColunaQuadroDTO(
+                        status,
+                        totais.getOrDefault(status, 0L),
+                        cartoes.getOrDefault(status, List.of())
+                ))
+                .toList();
+    }
+
+    private LocalDateTime paraDataHora(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) valor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.TipoVersao;
+import com.application.cooperfilme.model.entity.VersaoRoteiro;
+import com.application.cooperfilme.repository.VersaoRoteiroRepository;
+import com.application.cooperfilme.service.exceptions.CooperFilmeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+class ReconstrutorVersoes {
+
+    private final VersaoRoteiroRepository versaoRoteiroRepository;
+
+    List<String> reconstruir(Long roteiroId, Integer numero) {
+        VersaoRoteiro snapshot = versaoRoteiroRepository
+                .findFirstByRoteiroIdAndTipoAndNumeroLessThanEqualOrderByNumeroDesc(roteiroId, TipoVersao.SNAPSHOT, numero)
+                .orElseThrow(() -> new CooperFilmeException("Versão " + numero + " não encontrada para o roteiro " + roteiroId));
+
+        List<String> linhas = DiferencaLinhas.dividir(DiferencaLinhas.descomprimir(snapshot.getDados()));
+        List<VersaoRoteiro> deltas = versaoRoteiroRepository.findIntervalo(roteiroId, snapshot.getNumero(), numero);
+        if (snapshot.getNumero() + deltas.size() != numero) {
+            throw new CooperFilmeException("Versão " + numero + " não encontrada para o roteiro " + roteiroId);
+        }
+        for (VersaoRoteiro delta : deltas) {
+            linhas = DiferencaLinhas.aplicar(linhas, DiferencaLinhas.decodificar(delta.getDados()));
+        }
+        return linhas;
+    }
+
+    String materializar(Long roteiroId, Integer numero) {
+        return String.join("", reconstruir(roteiroId, numero));
+    }
+}
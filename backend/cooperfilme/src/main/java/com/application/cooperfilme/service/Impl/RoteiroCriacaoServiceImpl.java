@@ -1,15 +1,38 @@
 package com.application.cooperfilme.service.Impl;
 
+import com.application.cooperfilme.enums.TipoSugestao;
+import com.application.cooperfilme.event.RoteiroEnviadoEvent;
+import com.application.cooperfilme.model.dto.ConteudoArmazenadoDTO;
+import com.application.cooperfilme.model.dto.RoteiroArquivoDTO;
 import com.application.cooperfilme.model.dto.RoteiroDTO;
 import com.application.cooperfilme.model.entity.Cliente;
 import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
 import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.repository.RoteiroResumoRepository;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.AutocompletarService;
+import com.application.cooperfilme.service.BuscaService;
 import com.application.cooperfilme.service.ClienteService;
+import com.application.cooperfilme.service.ContadorStatusService;
+import com.application.cooperfilme.service.DeduplicacaoService;
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import com.application.cooperfilme.service.SimilaridadeService;
+import com.application.cooperfilme.service.TempoEtapaService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @Slf4j
@@ -17,7 +40,17 @@ import java.util.List;
 public class RoteiroCriacaoServiceImpl {
 
     private final RoteiroRepository roteiroRepository;
+    private final RoteiroResumoRepository roteiroResumoRepository;
     private final ClienteService clienteService;
+    private final ArmazenamentoService armazenamentoService;
+    private final DeduplicacaoService deduplicacaoService;
+    private final SimilaridadeService similaridadeService;
+    private final BuscaService buscaService;
+    private final AutocompletarService autocompletarService;
+    private final ProjecaoRoteiroService projecaoRoteiroService;
+    private final ContadorStatusService contadorStatusService;
+    private final TempoEtapaService tempoEtapaService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Roteiro enviarRoteiro(RoteiroDTO roteiroDTO) {
         Cliente cliente = clienteService.buscarOuCriarCliente(
@@ -32,12 +65,69 @@ public class RoteiroCriacaoServiceImpl {
                 cliente
         );
 
+        return registrar(roteiro);
+    }
+
+    public Roteiro enviarRoteiroArquivo(RoteiroArquivoDTO roteiroArquivoDTO, InputStream conteudo) {
+        Cliente cliente = clienteService.buscarOuCriarCliente(
+                roteiroArquivoDTO.clienteNome(),
+                roteiroArquivoDTO.clienteEmail(),
+                roteiroArquivoDTO.telefone()
+        );
+
+        ConteudoArmazenadoDTO armazenado = armazenamentoService.armazenar(conteudo);
+
+        Roteiro roteiro = new Roteiro(
+                roteiroArquivoDTO.titulo(),
+                cliente,
+                armazenado.hash(),
+                armazenado.tamanho()
+        );
+
+        return registrar(roteiro);
+    }
+
+    private Roteiro registrar(Roteiro roteiro) {
+        String hashNormalizado = lerConteudo(roteiro, deduplicacaoService::calcularHash);
+        Optional<RoteiroBase> original = deduplicacaoService.buscarOriginal(hashNormalizado);
+        if (original.isPresent() && original.get() instanceof Roteiro ativo
+                && ativo.getCliente().getId().equals(roteiro.getCliente().getId())) {
+            log.info("Reenvio do roteiro {} pelo mesmo cliente ignorado", ativo.getId());
+            return ativo;
+        }
+
+        roteiro.setHashNormalizado(hashNormalizado);
+        original.ifPresent(existente -> {
+            roteiro.setRoteiroOriginalId(existente.getId());
+            log.info("Roteiro duplicado vinculado ao roteiro {}", existente.getId());
+        });
+
+        roteiro.setAssinaturaMinhash(lerConteudo(roteiro, similaridadeService::calcularAssinatura));
+
         Roteiro salvo = roteiroRepository.save(roteiro);
+        projecaoRoteiroService.atualizar(salvo, salvo.getDataEnvio());
+        contadorStatusService.registrarTransicao(null, salvo.getStatus());
+        clienteService.invalidarPortal(salvo.getCliente().getEmail());
+        tempoEtapaService.registrarTransicao(salvo, null, salvo.getDataEnvio());
+        similaridadeService.indexar(salvo.getId(), salvo.getAssinaturaMinhash());
+        buscaService.indexar(salvo);
+        autocompletarService.adicionar(TipoSugestao.TITULO, salvo.getId(), salvo.getTitulo());
+        eventPublisher.publishEvent(new RoteiroEnviadoEvent(salvo.getId()));
         return salvo;
     }
 
-    public List<Roteiro> listarRoteiros() {
-        var roteiros = roteiroRepository.findAll();
+    private <T> T lerConteudo(Roteiro roteiro, Function<Reader, T> leitura) {
+        try (Reader leitor = armazenamentoService.abrirConteudo(roteiro)) {
+            return leitura.apply(leitor);
+        } catch (IOException e) {
+            log.error("Falha ao ler conteúdo do roteiro {}", roteiro.getTitulo(), e);
+            throw new ArmazenamentoException("Não foi possível ler o conteúdo do roteiro");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoteiroResumo> listarRoteiros() {
+        var roteiros = roteiroResumoRepository.findAllByOrderByDataEnvioDesc();
         return roteiros;
     }
 }
@@ -1,23 +1,39 @@
 package com.application.cooperfilme.service.Impl;
 
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.MotivoNegacao;
 import com.application.cooperfilme.enums.StatusRoteiro;
 import com.application.cooperfilme.model.dto.AnaliseDTO;
 import com.application.cooperfilme.model.dto.RevisaoDTO;
 import com.application.cooperfilme.model.dto.VotacaoDTO;
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
 import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
 import com.application.cooperfilme.model.entity.Usuario;
 import com.application.cooperfilme.model.entity.Votacao;
+import com.application.cooperfilme.repository.RoteiroArquivadoRepository;
 import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.repository.RoteiroResumoRepository;
 import com.application.cooperfilme.repository.UsuarioRepository;
 import com.application.cooperfilme.repository.VotacaoRepository;
+import com.application.cooperfilme.service.ClienteService;
+import com.application.cooperfilme.service.ContadorStatusService;
+import com.application.cooperfilme.service.ProdutividadeService;
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import com.application.cooperfilme.service.TempoEtapaService;
 import com.application.cooperfilme.service.exceptions.PermissaoNegadaException;
 import com.application.cooperfilme.service.exceptions.RoteiroNaoEncontradoException;
 import com.application.cooperfilme.service.exceptions.UsuarioNaoEncontradoException;
-import jakarta.transaction.Transactional;
+import com.application.cooperfilme.service.exceptions.VersaoDesatualizadaException;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 
@@ -27,30 +43,40 @@ import java.util.List;
 public class RoteiroFluxoServiceImpl {
 
     private final RoteiroRepository roteiroRepository;
+    private final RoteiroArquivadoRepository roteiroArquivadoRepository;
     private final UsuarioRepository usuarioRepository;
     private final VotacaoRepository votacaoRepository;
-
-    public Roteiro assumirAnalise(Long roteiroId, Long usuarioId) {
-        Roteiro roteiro = buscarRoteiro(roteiroId);
+    private final RoteiroResumoRepository roteiroResumoRepository;
+    private final ProjecaoRoteiroService projecaoRoteiroService;
+    private final ContadorStatusService contadorStatusService;
+    private final ClienteService clienteService;
+    private final TempoEtapaService tempoEtapaService;
+    private final ProdutividadeService produtividadeService;
+
+    public Roteiro assumirAnalise(Long roteiroId, Long usuarioId, Long versaoEsperada) {
+        Roteiro roteiro = buscarRoteiro(roteiroId, versaoEsperada);
         Usuario usuario = buscarUsuario(usuarioId);
+        StatusRoteiro statusAnterior = roteiro.getStatus();
 
         if (!roteiro.podeSerAssumidoPor(usuario)) {
-            throw new PermissaoNegadaException("Usuário não pode assumir este roteiro para análise");
+            throw negar("Usuário não pode assumir este roteiro para análise", roteiro, usuario, Cargo.ANALISTA,
+                    MotivoNegacao.NAO_RESPONSAVEL, StatusRoteiro.AGUARDANDO_ANALISE);
         }
 
         roteiro.setUsuarioResponsavel(usuario);
         roteiro.setStatus(StatusRoteiro.EM_ANALISE);
 
-        Roteiro save =  roteiroRepository.save(roteiro);
-        return save;
+        return salvar(roteiro, statusAnterior);
     }
 
-    public Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO) {
-        Roteiro roteiro = buscarRoteiro(roteiroId);
+    public Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO, Long versaoEsperada) {
+        Roteiro roteiro = buscarRoteiro(roteiroId, versaoEsperada);
         Usuario usuario = buscarUsuario(usuarioId);
+        StatusRoteiro statusAnterior = roteiro.getStatus();
 
         if (!roteiro.podeSerAnalisadoPor(usuario)) {
-            throw new PermissaoNegadaException("Usuário não pode analisar este roteiro");
+            throw negar("Usuário não pode analisar este roteiro", roteiro, usuario, Cargo.ANALISTA,
+                    MotivoNegacao.NAO_RESPONSAVEL, StatusRoteiro.EM_ANALISE);
         }
 
         roteiro.setObservacoesAnalise(analiseDTO.justificativa());
@@ -63,50 +89,58 @@ public class RoteiroFluxoServiceImpl {
             log.info("Roteiro {} recusado na análise", roteiroId);
         }
 
-        return roteiroRepository.save(roteiro);
+        return salvar(roteiro, statusAnterior);
     }
 
-    public Roteiro assumirRevisao(Long roteiroId, Long usuarioId) {
-        Roteiro roteiro = buscarRoteiro(roteiroId);
+    public Roteiro assumirRevisao(Long roteiroId, Long usuarioId, Long versaoEsperada) {
+        Roteiro roteiro = buscarRoteiro(roteiroId, versaoEsperada);
         Usuario usuario = buscarUsuario(usuarioId);
+        StatusRoteiro statusAnterior = roteiro.getStatus();
 
         if (!roteiro.podeSerAssumidoPor(usuario)) {
-            throw new PermissaoNegadaException("Usuário não pode assumir este roteiro para revisão");
+            throw negar("Usuário não pode assumir este roteiro para revisão", roteiro, usuario, Cargo.REVISOR,
+                    MotivoNegacao.NAO_RESPONSAVEL, StatusRoteiro.AGUARDANDO_REVISAO);
         }
 
         roteiro.setUsuarioResponsavel(usuario);
         roteiro.setStatus(StatusRoteiro.EM_REVISAO);
 
         log.info("Roteiro {} assumido por revisor {}", roteiroId, usuarioId);
-        return roteiroRepository.save(roteiro);
+        return salvar(roteiro, statusAnterior);
     }
 
-    public Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO) {
-        Roteiro roteiro = buscarRoteiro(roteiroId);
+    public Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO, Long versaoEsperada) {
+        Roteiro roteiro = buscarRoteiro(roteiroId, versaoEsperada);
         Usuario usuario = buscarUsuario(usuarioId);
+        StatusRoteiro statusAnterior = roteiro.getStatus();
 
         if (!roteiro.podeSerRevisadoPor(usuario)) {
-            throw new PermissaoNegadaException("Usuário não pode revisar este roteiro");
+            throw negar("Usuário não pode revisar este roteiro", roteiro, usuario, Cargo.REVISOR,
+                    MotivoNegacao.NAO_RESPONSAVEL, StatusRoteiro.EM_REVISAO);
         }
 
         roteiro.setObservacoesRevisao(revisaoDTO.observacoes());
         roteiro.setStatus(StatusRoteiro.AGUARDANDO_APROVACAO);
 
         log.info("Roteiro {} revisado e enviado para aprovação", roteiroId);
-        return roteiroRepository.save(roteiro);
+        return salvar(roteiro, statusAnterior);
     }
 
-    public Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO) {
-        Roteiro roteiro = buscarRoteiro(roteiroId);
+    public Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO, Long versaoEsperada) {
+        Roteiro roteiro = buscarRoteiro(roteiroId, versaoEsperada);
         Usuario usuario = buscarUsuario(usuarioId);
+        StatusRoteiro statusAnterior = roteiro.getStatus();
 
         if (!roteiro.podeReceberVotoDe(usuario)) {
-            throw new PermissaoNegadaException("Usuário não pode votar neste roteiro");
+            throw negar("Usuário não pode votar neste roteiro", roteiro, usuario, Cargo.APROVADOR,
+                    MotivoNegacao.VOTO_DUPLICADO, StatusRoteiro.AGUARDANDO_APROVACAO, StatusRoteiro.EM_APROVACAO);
         }
 
 
         Votacao votacao = new Votacao(roteiro, usuario, votoDTO.aprovado(), votoDTO.justificativa());
         votacaoRepository.save(votacao);
+        roteiro.getVotacoes().add(votacao);
+        produtividadeService.registrarVoto(usuario.getId(), votoDTO.aprovado());
 
         if (roteiro.getStatus() == StatusRoteiro.AGUARDANDO_APROVACAO) {
             roteiro.setStatus(StatusRoteiro.EM_APROVACAO);
@@ -120,26 +154,83 @@ public class RoteiroFluxoServiceImpl {
             log.info("Roteiro {} aprovado por votação", roteiroId);
         }
 
-        return roteiroRepository.save(roteiro);
+        return salvar(roteiro, statusAnterior);
     }
 
-    @Transactional
-    public List<Roteiro> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio) {
+    @Transactional(readOnly = true)
+    public List<RoteiroResumo> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio) {
         if (status != null && emailUsuario != null && dataEnvio != null) {
-            return roteiroRepository.findByStatusAndUsuarioResponsavelEmail(status, emailUsuario, dataEnvio);
+            return roteiroResumoRepository.findByStatusAndResponsavelEmailAndDataEnvioLessThanEqualOrderByDataEnvioDesc(
+                    status, emailUsuario, dataEnvio.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime());
         } else if (status != null) {
-            return roteiroRepository.findByStatus(status);
+            return roteiroResumoRepository.findByStatusOrderByDataEnvioDesc(status);
         } else if (emailUsuario != null) {
-            return roteiroRepository.findByUsuarioResponsavelEmail(emailUsuario);
+            return roteiroResumoRepository.findByResponsavelEmailOrderByDataEnvioDesc(emailUsuario);
         }
-        return roteiroRepository.findAll();
+        return roteiroResumoRepository.findAllByOrderByDataEnvioDesc();
     }
 
-    public Roteiro buscarRoteiro(Long id) {
+    private Roteiro salvar(Roteiro roteiro, StatusRoteiro statusAnterior) {
+        Roteiro salvo;
+        try {
+            salvo = roteiroRepository.saveAndFlush(roteiro);
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException(roteiro.getId());
+        }
+        LocalDateTime momento = LocalDateTime.now();
+        projecaoRoteiroService.atualizar(salvo, momento);
+        contadorStatusService.registrarTransicao(statusAnterior, salvo.getStatus());
+        clienteService.invalidarPortal(salvo.getCliente().getEmail());
+        EtapaRoteiro etapaEncerrada = tempoEtapaService.registrarTransicao(salvo, statusAnterior, momento).orElse(null);
+        produtividadeService.registrarTransicao(salvo, statusAnterior, etapaEncerrada);
+        return salvo;
+    }
+
+    private PermissaoNegadaException negar(String mensagem, Roteiro roteiro, Usuario usuario, Cargo cargoExigido,
+                                           MotivoNegacao motivoRestante, StatusRoteiro... statusPermitidos) {
+        MotivoNegacao motivo = motivoRestante;
+        if (!List.of(statusPermitidos).contains(roteiro.getStatus())) {
+            motivo = MotivoNegacao.STATUS_INVALIDO;
+        } else if (usuario.getCargo() != cargoExigido) {
+            motivo = MotivoNegacao.CARGO_INVALIDO;
+        }
+        return new PermissaoNegadaException(mensagem, motivo);
+    }
+
+    private Roteiro buscarRoteiro(Long id, Long versaoEsperada) {
+        if (versaoEsperada != null) {
+            Long versaoAtual = buscarVersao(id);
+            if (!versaoEsperada.equals(versaoAtual)) {
+                throw new VersaoDesatualizadaException(id);
+            }
+        }
+        Roteiro roteiro = buscarAtivo(id);
+        if (versaoEsperada != null && !versaoEsperada.equals(roteiro.getVersao())) {
+            throw new VersaoDesatualizadaException(id);
+        }
+        return roteiro;
+    }
+
+    public Long buscarVersao(Long id) {
+        return roteiroRepository.findVersaoById(id)
+                .or(() -> roteiroArquivadoRepository.findVersaoById(id))
+                .orElseThrow(() -> new RoteiroNaoEncontradoException("Roteiro não encontrado" + id));
+    }
+
+    public RoteiroBase buscarRoteiro(Long id) {
         return roteiroRepository.findById(id)
+                .<RoteiroBase>map(roteiro -> roteiro)
+                .or(() -> roteiroArquivadoRepository.findById(id))
                 .orElseThrow(() -> new RoteiroNaoEncontradoException("Roteiro não encontrado" + id));
     }
 
+    private Roteiro buscarAtivo(Long id) {
+        return roteiroRepository.findById(id)
+                .orElseThrow(() -> roteiroArquivadoRepository.existsById(id)
+                        ? new PermissaoNegadaException("Roteiro arquivado não pode ser alterado", MotivoNegacao.STATUS_INVALIDO)
+                        : new RoteiroNaoEncontradoException("Roteiro não encontrado" + id));
+    }
+
     public Usuario buscarUsuario(Long id) {
         return usuarioRepository.findById(id)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado" + id) );
@@ -3,15 +3,20 @@ package com.application.cooperfilme.service.Impl;
 import com.application.cooperfilme.enums.StatusRoteiro;
 import com.application.cooperfilme.model.dto.AnaliseDTO;
 import com.application.cooperfilme.model.dto.RevisaoDTO;
+import com.application.cooperfilme.model.dto.RoteiroArquivoDTO;
 import com.application.cooperfilme.model.dto.RoteiroDTO;
 import com.application.cooperfilme.model.dto.VotacaoDTO;
 import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
 import com.application.cooperfilme.model.entity.Usuario;
-import jakarta.transaction.Transactional;
+import com.application.cooperfilme.service.Impl.MetricasRoteiro.Operacao;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -24,57 +29,79 @@ public class RoteiroServiceImpl implements com.application.cooperfilme.service.R
 
     private final RoteiroFluxoServiceImpl roteiroFluxoServiceImpl;
 
+    private final MetricasRoteiro metricasRoteiro;
+
     @Override
     @Transactional
     public Roteiro enviarRoteiro(RoteiroDTO roteiroDTO) {
-        return roteiroCriacaoService.enviarRoteiro(roteiroDTO);
+        return metricasRoteiro.medir(Operacao.ENVIAR_ROTEIRO, () -> roteiroCriacaoService.enviarRoteiro(roteiroDTO));
     }
 
-
     @Override
-    public Roteiro assumirAnalise(Long roteiroId, Long usuarioId) {
-        return roteiroFluxoServiceImpl.assumirAnalise(roteiroId, usuarioId);
+    @Transactional
+    public Roteiro enviarRoteiroArquivo(RoteiroArquivoDTO roteiroArquivoDTO, InputStream conteudo) {
+        return metricasRoteiro.medir(Operacao.ENVIAR_ROTEIRO_ARQUIVO, () -> roteiroCriacaoService.enviarRoteiroArquivo(roteiroArquivoDTO, conteudo));
     }
 
+
     @Override
-    public Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO) {
-       return roteiroFluxoServiceImpl.analisarRoteiro(roteiroId, usuarioId, analiseDTO);
+    @Transactional
+    public Roteiro assumirAnalise(Long roteiroId, Long usuarioId, Long versaoEsperada) {
+        return metricasRoteiro.medir(Operacao.ASSUMIR_ANALISE, () -> roteiroFluxoServiceImpl.assumirAnalise(roteiroId, usuarioId, versaoEsperada));
     }
 
     @Override
-    public Roteiro assumirRevisao(Long roteiroId, Long usuarioId) {
-        return roteiroFluxoServiceImpl.assumirRevisao(roteiroId, usuarioId);
+    @Transactional
+    public Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO, Long versaoEsperada) {
+       return metricasRoteiro.medir(Operacao.ANALISAR_ROTEIRO, () -> roteiroFluxoServiceImpl.analisarRoteiro(roteiroId, usuarioId, analiseDTO, versaoEsperada));
     }
 
     @Override
-    public Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO) {
-       return roteiroFluxoServiceImpl.revisarRoteiro(roteiroId, usuarioId, revisaoDTO);
+    @Transactional
+    public Roteiro assumirRevisao(Long roteiroId, Long usuarioId, Long versaoEsperada) {
+        return metricasRoteiro.medir(Operacao.ASSUMIR_REVISAO, () -> roteiroFluxoServiceImpl.assumirRevisao(roteiroId, usuarioId, versaoEsperada));
     }
 
     @Override
-    public Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO) {
-       return roteiroFluxoServiceImpl.votarRoteiro(roteiroId, usuarioId, votoDTO);
+    @Transactional
+    public Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO, Long versaoEsperada) {
+       return metricasRoteiro.medir(Operacao.REVISAR_ROTEIRO, () -> roteiroFluxoServiceImpl.revisarRoteiro(roteiroId, usuarioId, revisaoDTO, versaoEsperada));
     }
 
     @Override
     @Transactional
-    public List<Roteiro> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio) {
-     return roteiroFluxoServiceImpl.listarRoteiros(status, emailUsuario, dataEnvio);
+    public Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO, Long versaoEsperada) {
+       return metricasRoteiro.medir(Operacao.VOTAR_ROTEIRO, () -> roteiroFluxoServiceImpl.votarRoteiro(roteiroId, usuarioId, votoDTO, versaoEsperada));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoteiroResumo> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio) {
+     return metricasRoteiro.medir(Operacao.LISTAR_ROTEIROS, () -> roteiroFluxoServiceImpl.listarRoteiros(status, emailUsuario, dataEnvio));
     }
 
     @Override
-    public Roteiro buscarRoteiro(Long id) {
+    @Transactional(readOnly = true)
+    public RoteiroBase buscarRoteiro(Long id) {
         return roteiroFluxoServiceImpl.buscarRoteiro(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Long buscarVersao(Long id) {
+        return roteiroFluxoServiceImpl.buscarVersao(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Usuario buscarUsuario(Long id) {
         return roteiroFluxoServiceImpl.buscarUsuario(id);
     }
 
     @Override
-    public List<Roteiro> listarRoteiros() {
-        return roteiroCriacaoService.listarRoteiros();
+    @Transactional(readOnly = true)
+    public List<RoteiroResumo> listarRoteiros() {
+        return metricasRoteiro.medir(Operacao.LISTAR_ROTEIROS, () -> roteiroCriacaoService.listarRoteiros());
     }
 }
 
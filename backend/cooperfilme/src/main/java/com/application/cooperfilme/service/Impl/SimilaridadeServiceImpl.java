@@ -0,0 +1,287 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.RoteiroSimilarDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.SimilaridadeService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
+import com.application.cooperfilme.service.exceptions.RoteiroNaoEncontradoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class SimilaridadeServiceImpl implements SimilaridadeService {
+
+    private static final int NUMERO_PERMUTACOES = 128;
+    private static final int BANDAS = 16;
+    private static final int LINHAS_POR_BANDA = NUMERO_PERMUTACOES / BANDAS;
+    private static final int PALAVRAS_POR_SHINGLE = 5;
+    private static final int TAMANHO_LOTE = 1000;
+    private static final int MAXIMO_RESULTADOS = 10;
+    private static final double SIMILARIDADE_MINIMA = 0.5;
+
+    private static final long[] MULTIPLICADORES = new long[NUMERO_PERMUTACOES];
+    private static final long[] DESLOCAMENTOS = new long[NUMERO_PERMUTACOES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_C00FL);
+        for (int i = 0; i < NUMERO_PERMUTACOES; i++) {
+            MULTIPLICADORES[i] = random.nextLong() | 1L;
+            DESLOCAMENTOS[i] = random.nextLong();
+        }
+    }
+
+    private final RoteiroRepository roteiroRepository;
+    private final ArmazenamentoService armazenamentoService;
+
+    private volatile Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private volatile Map<Long, int[]> assinaturas = new ConcurrentHashMap<>();
+
+    public SimilaridadeServiceImpl(RoteiroRepository roteiroRepository, ArmazenamentoService armazenamentoService) {
+        this.roteiroRepository = roteiroRepository;
+        this.armazenamentoService = armazenamentoService;
+    }
+
+    @Override
+    public byte[] calcularAssinatura(Reader conteudo) {
+        long[] minimos = new long[NUMERO_PERMUTACOES];
+        Arrays.fill(minimos, Long.MAX_VALUE);
+        long[] janela = new long[PALAVRAS_POR_SHINGLE];
+        int palavras = 0;
+        long palavra = 0;
+        boolean dentroDePalavra = false;
+
+        try {
+            char[] buffer = new char[8192];
+            int lidos;
+            while ((lidos = conteudo.read(buffer)) != -1) {
+                for (int i = 0; i < lidos; i++) {
+                    char c = buffer[i];
+                    if (Character.isLetterOrDigit(c)) {
+                        palavra = palavra * 31 + Character.toLowerCase(c);
+                        dentroDePalavra = true;
+                    } else if (dentroDePalavra) {
+                        janela[palavras % PALAVRAS_POR_SHINGLE] = palavra;
+                        palavras++;
+                        if (palavras >= PALAVRAS_POR_SHINGLE) {
+                            atualizarMinimos(minimos, hashShingle(janela, palavras));
+                        }
+                        palavra = 0;
+                        dentroDePalavra = false;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Falha ao ler conteúdo para assinatura", e);
+            throw new ArmazenamentoException("Não foi possível ler o conteúdo do roteiro");
+        }
+
+        if (dentroDePalavra) {
+            janela[palavras % PALAVRAS_POR_SHINGLE] = palavra;
+            palavras++;
+            if (palavras >= PALAVRAS_POR_SHINGLE) {
+                atualizarMinimos(minimos, hashShingle(janela, palavras));
+            }
+        }
+        if (palavras > 0 && palavras < PALAVRAS_POR_SHINGLE) {
+            atualizarMinimos(minimos, hashShingle(janela, palavras));
+        }
+
+        ByteBuffer assinatura = ByteBuffer.allocate(NUMERO_PERMUTACOES * Integer.BYTES);
+        for (long minimo : minimos) {
+            assinatura.putInt((int) minimo);
+        }
+        return assinatura.array();
+    }
+
+    @Override
+    public void indexar(Long roteiroId, byte[] assinatura) {
+        if (assinatura == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adicionar(buckets, assinaturas, roteiroId, decodificar(assinatura));
+                }
+            });
+        } else {
+            adicionar(buckets, assinaturas, roteiroId, decodificar(assinatura));
+        }
+    }
+
+    @Override
+    public List<RoteiroSimilarDTO> buscarSimilares(Long roteiroId) {
+        int[] assinatura = assinaturas.get(roteiroId);
+        if (assinatura == null) {
+            Roteiro roteiro = roteiroRepository.findById(roteiroId)
+                    .orElseThrow(() -> new RoteiroNaoEncontradoException(String.valueOf(roteiroId)));
+            assinatura = decodificar(roteiro.getAssinaturaMinhash() != null
+                    ? roteiro.getAssinaturaMinhash()
+                    : calcularAssinatura(roteiro));
+        }
+
+        Set<Long> candidatos = new HashSet<>();
+        for (int banda = 0; banda < BANDAS; banda++) {
+            Set<Long> bucket = buckets.get(chaveBanda(assinatura, banda));
+            if (bucket != null) {
+                candidatos.addAll(bucket);
+            }
+        }
+        candidatos.remove(roteiroId);
+
+        Map<Long, Double> similaridades = new HashMap<>();
+        for (Long candidato : candidatos) {
+            int[] outra = assinaturas.get(candidato);
+            if (outra == null) {
+                continue;
+            }
+            double similaridade = estimarSimilaridade(assinatura, outra);
+            if (similaridade >= SIMILARIDADE_MINIMA) {
+                similaridades.put(candidato, similaridade);
+            }
+        }
+        if (similaridades.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> melhores = similaridades.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(MAXIMO_RESULTADOS)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        List<RoteiroSimilarDTO> resultado = new ArrayList<>();
+        for (Object[] linha : roteiroRepository.findResumoByIds(melhores)) {
+            Long id = (Long) linha[0];
+            resultado.add(new RoteiroSimilarDTO(
+                    id,
+                    (String) linha[1],
+                    ((StatusRoteiro) linha[2]).name(),
+                    similaridades.get(id)
+            ));
+        }
+        resultado.sort(Comparator.comparingDouble(RoteiroSimilarDTO::similaridade).reversed());
+        return resultado;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarIndice() {
+        int total = reconstruirIndice();
+        log.info("Índice de similaridade carregado com {} roteiros", total);
+    }
+
+    @Override
+    public int reconstruirIndice() {
+        for (Long id : roteiroRepository.findIdsSemAssinaturaMinhash()) {
+            roteiroRepository.findById(id).ifPresent(roteiro -> {
+                roteiro.setAssinaturaMinhash(calcularAssinatura(roteiro));
+                roteiroRepository.save(roteiro);
+            });
+        }
+
+        Map<Long, Set<Long>> novosBuckets = new ConcurrentHashMap<>();
+        Map<Long, int[]> novasAssinaturas = new ConcurrentHashMap<>();
+        long ultimoId = 0;
+        List<Object[]> lote;
+        do {
+            lote = roteiroRepository.findAssinaturasMinhashAposId(ultimoId, PageRequest.of(0, TAMANHO_LOTE));
+            for (Object[] linha : lote) {
+                ultimoId = (Long) linha[0];
+                adicionar(novosBuckets, novasAssinaturas, ultimoId, decodificar((byte[]) linha[1]));
+            }
+        } while (lote.size() == TAMANHO_LOTE);
+
+        buckets = novosBuckets;
+        assinaturas = novasAssinaturas;
+        return novasAssinaturas.size();
+    }
+
+    private byte[] calcularAssinatura(Roteiro roteiro) {
+        try (Reader leitor = armazenamentoService.abrirConteudo(roteiro)) {
+            return calcularAssinatura(leitor);
+        } catch (IOException e) {
+            log.error("Falha ao ler conteúdo do roteiro {}", roteiro.getId(), e);
+            throw new ArmazenamentoException("Não foi possível ler o conteúdo do roteiro " + roteiro.getId());
+        }
+    }
+
+    private static void adicionar(Map<Long, Set<Long>> buckets, Map<Long, int[]> assinaturas, Long roteiroId, int[] assinatura) {
+        assinaturas.put(roteiroId, assinatura);
+        for (int banda = 0; banda < BANDAS; banda++) {
+            buckets.computeIfAbsent(chaveBanda(assinatura, banda), chave -> ConcurrentHashMap.newKeySet())
+                    .add(roteiroId);
+        }
+    }
+
+    private static void atualizarMinimos(long[] minimos, long shingle) {
+        for (int i = 0; i < NUMERO_PERMUTACOES; i++) {
+            long valor = (MULTIPLICADORES[i] * shingle + DESLOCAMENTOS[i]) >>> 32;
+            if (valor < minimos[i]) {
+                minimos[i] = valor;
+            }
+        }
+    }
+
+    private static long hashShingle(long[] janela, int palavras) {
+        long hash = 0;
+        int quantidade = Math.min(palavras, PALAVRAS_POR_SHINGLE);
+        for (int i = palavras - quantidade; i < palavras; i++) {
+            hash = hash * 1_000_003L + janela[i % PALAVRAS_POR_SHINGLE];
+        }
+        return misturar(hash);
+    }
+
+    private static long chaveBanda(int[] assinatura, int banda) {
+        long chave = banda;
+        for (int i = banda * LINHAS_POR_BANDA; i < (banda + 1) * LINHAS_POR_BANDA; i++) {
+            chave = chave * 31 + assinatura[i];
+        }
+        return misturar(chave);
+    }
+
+    private static double estimarSimilaridade(int[] a, int[] b) {
+        int iguais = 0;
+        for (int i = 0; i < NUMERO_PERMUTACOES; i++) {
+            if (a[i] == b[i]) {
+                iguais++;
+            }
+        }
+        return (double) iguais / NUMERO_PERMUTACOES;
+    }
+
+    private static int[] decodificar(byte[] assinatura) {
+        int[] valores = new int[NUMERO_PERMUTACOES];
+        ByteBuffer.wrap(assinatura).asIntBuffer().get(valores);
+        return valores;
+    }
+
+    private static long misturar(long valor) {
+        valor = (valor ^ (valor >>> 33)) * 0xff51afd7ed558ccdL;
+        valor = (valor ^ (valor >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return valor ^ (valor >>> 33);
+    }
+}
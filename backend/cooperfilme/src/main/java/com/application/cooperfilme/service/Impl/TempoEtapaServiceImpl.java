@@ -0,0 +1,208 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.TempoEtapaDTO;
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.TempoEtapaDiario;
+import com.application.cooperfilme.repository.EtapaRoteiroRepository;
+import com.application.cooperfilme.repository.TempoEtapaDiarioRepository;
+import com.application.cooperfilme.service.TempoEtapaService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+@Service
+@Slf4j
+public class TempoEtapaServiceImpl implements TempoEtapaService {
+
+    private static final long MAXIMO_SEGUNDOS = Duration.ofDays(365).toSeconds();
+    private static final int DIGITOS_SIGNIFICATIVOS = 3;
+
+    private record Chave(LocalDate dia, StatusRoteiro etapa) {
+    }
+
+    private static final class Acumulado {
+        private final Histogram histograma = new Histogram(MAXIMO_SEGUNDOS, DIGITOS_SIGNIFICATIVOS);
+        private long quantidade;
+        private long somaSegundos;
+        private long maximoSegundos;
+
+        void registrar(long duracaoSegundos) {
+            histograma.recordValue(Math.min(duracaoSegundos, MAXIMO_SEGUNDOS));
+            quantidade++;
+            somaSegundos += duracaoSegundos;
+            maximoSegundos = Math.max(maximoSegundos, duracaoSegundos);
+        }
+
+        Acumulado combinar(Acumulado outro) {
+            histograma.add(outro.histograma);
+            quantidade += outro.quantidade;
+            somaSegundos += outro.somaSegundos;
+            maximoSegundos = Math.max(maximoSegundos, outro.maximoSegundos);
+            return this;
+        }
+    }
+
+    private final EtapaRoteiroRepository etapaRoteiroRepository;
+    private final TempoEtapaDiarioRepository tempoEtapaDiarioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<Chave, Acumulado> pendentes = new ConcurrentHashMap<>();
+
+    public TempoEtapaServiceImpl(EtapaRoteiroRepository etapaRoteiroRepository,
+                                 TempoEtapaDiarioRepository tempoEtapaDiarioRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.etapaRoteiroRepository = etapaRoteiroRepository;
+        this.tempoEtapaDiarioRepository = tempoEtapaDiarioRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Optional<EtapaRoteiro> registrarTransicao(Roteiro roteiro, StatusRoteiro anterior, LocalDateTime momento) {
+        if (anterior == roteiro.getStatus()) {
+            return Optional.empty();
+        }
+
+        Optional<EtapaRoteiro> encerrada = Optional.empty();
+        if (anterior != null) {
+            encerrada = etapaRoteiroRepository.findFirstByRoteiroIdAndDataSaidaIsNullOrderByDataEntradaDesc(roteiro.getId());
+            encerrada.ifPresent(etapa -> {
+                etapa.encerrar(momento);
+                etapaRoteiroRepository.save(etapa);
+                acumular(momento.toLocalDate(), etapa.getStatus(), etapa.getDuracaoSegundos());
+            });
+        }
+
+        Long usuarioId = roteiro.getUsuarioResponsavel() != null ? roteiro.getUsuarioResponsavel().getId() : null;
+        etapaRoteiroRepository.save(new EtapaRoteiro(roteiro.getId(), roteiro.getStatus(), usuarioId, momento));
+        return encerrada;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TempoEtapaDTO> consultar(LocalDate inicio, LocalDate fim) {
+        Map<StatusRoteiro, TempoEtapaDiario> totais = new EnumMap<>(StatusRoteiro.class);
+        Map<StatusRoteiro, Histogram> histogramas = new EnumMap<>(StatusRoteiro.class);
+
+        for (TempoEtapaDiario linha : tempoEtapaDiarioRepository.findPeriodo(inicio, fim)) {
+            TempoEtapaDiario total = totais.computeIfAbsent(linha.getEtapa(), etapa -> new TempoEtapaDiario());
+            total.setQuantidade(total.getQuantidade() + linha.getQuantidade());
+            total.setSomaSegundos(total.getSomaSegundos() + linha.getSomaSegundos());
+            total.setMaximoSegundos(Math.max(total.getMaximoSegundos(), linha.getMaximoSegundos()));
+            histogramas.computeIfAbsent(linha.getEtapa(), etapa -> novoHistograma())
+                    .add(decodificar(linha.getHistograma()));
+        }
+
+        return totais.entrySet().stream()
+                .map(entrada -> {
+                    TempoEtapaDiario total = entrada.getValue();
+                    Histogram histograma = histogramas.get(entrada.getKey());
+                    return new TempoEtapaDTO(
+                            entrada.getKey(),
+                            total.getQuantidade(),
+                            (double) total.getSomaSegundos() / total.getQuantidade(),
+                            histograma.getValueAtPercentile(50),
+                            histograma.getValueAtPercentile(90),
+                            histograma.getValueAtPercentile(95),
+                            histograma.getValueAtPercentile(99),
+                            total.getMaximoSegundos()
+                    );
+                })
+                .toList();
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${api.tempo-etapa.descarga-ms:60000}",
+            initialDelayString = "${api.tempo-etapa.descarga-ms:60000}")
+    public void descarregar() {
+        for (Chave chave : List.copyOf(pendentes.keySet())) {
+            Acumulado acumulado = pendentes.remove(chave);
+            if (acumulado == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> gravar(chave, acumulado));
+            } catch (RuntimeException e) {
+                pendentes.merge(chave, acumulado, Acumulado::combinar);
+                log.warn("Falha ao gravar tempos de {} em {}; nova tentativa na próxima descarga", chave.etapa(), chave.dia(), e);
+            }
+        }
+    }
+
+    private void acumular(LocalDate dia, StatusRoteiro etapa, long duracaoSegundos) {
+        Chave chave = new Chave(dia, etapa);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registrar(chave, duracaoSegundos);
+                }
+            });
+        } else {
+            registrar(chave, duracaoSegundos);
+        }
+    }
+
+    private void registrar(Chave chave, long duracaoSegundos) {
+        pendentes.compute(chave, (k, acumulado) -> {
+            Acumulado atual = acumulado == null ? new Acumulado() : acumulado;
+            atual.registrar(duracaoSegundos);
+            return atual;
+        });
+    }
+
+    private void gravar(Chave chave, Acumulado acumulado) {
+        tempoEtapaDiarioRepository.garantirLinha(chave.dia(), chave.etapa().name());
+        TempoEtapaDiario linha = tempoEtapaDiarioRepository.findByDiaAndEtapa(chave.dia(), chave.etapa())
+                .orElseThrow(() -> new IllegalStateException("Agregado de " + chave.etapa() + " em " + chave.dia() + " não encontrado"));
+
+        Histogram histograma = linha.getHistograma() == null ? novoHistograma() : decodificar(linha.getHistograma());
+        histograma.add(acumulado.histograma);
+
+        linha.setQuantidade(linha.getQuantidade() + acumulado.quantidade);
+        linha.setSomaSegundos(linha.getSomaSegundos() + acumulado.somaSegundos);
+        linha.setMaximoSegundos(Math.max(linha.getMaximoSegundos(), acumulado.maximoSegundos));
+        linha.setHistograma(codificar(histograma));
+        tempoEtapaDiarioRepository.save(linha);
+    }
+
+    private Histogram novoHistograma() {
+        return new Histogram(MAXIMO_SEGUNDOS, DIGITOS_SIGNIFICATIVOS);
+    }
+
+    private byte[] codificar(Histogram histograma) {
+        ByteBuffer buffer = ByteBuffer.allocate(histograma.getNeededByteBufferCapacity());
+        int tamanho = histograma.encodeIntoCompressedByteBuffer(buffer, Deflater.BEST_SPEED);
+        return Arrays.copyOf(buffer.array(), tamanho);
+    }
+
+    private Histogram decodificar(byte[] dados) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(dados), MAXIMO_SEGUNDOS);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Histograma de tempo de etapa corrompido", e);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.application.cooperfilme.model.dto.UsuarioDTO;
 import com.application.cooperfilme.model.dto.UsuarioRespostaDTO;
 import com.application.cooperfilme.model.entity.Usuario;
 import com.application.cooperfilme.repository.UsuarioRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -42,6 +42,7 @@ public class UsuarioServiceImpl implements com.application.cooperfilme.service.U
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UsuarioRespostaDTO pegarPorId(Long id) {
         var usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
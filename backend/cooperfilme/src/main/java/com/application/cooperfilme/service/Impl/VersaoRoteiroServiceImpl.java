@@ -0,0 +1,186 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.application.cooperfilme.enums.MotivoNegacao;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.enums.TipoTrechoDiferenca;
+import com.application.cooperfilme.enums.TipoVersao;
+import com.application.cooperfilme.event.RoteiroEnviadoEvent;
+import com.application.cooperfilme.model.dto.NovaVersaoDTO;
+import com.application.cooperfilme.model.dto.TrechoDiferencaDTO;
+import com.application.cooperfilme.model.dto.VersaoRoteiroDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.VersaoRoteiro;
+import com.application.cooperfilme.repository.RoteiroArquivadoRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.repository.VersaoRoteiroRepository;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.BuscaService;
+import com.application.cooperfilme.service.DeduplicacaoService;
+import com.application.cooperfilme.service.SimilaridadeService;
+import com.application.cooperfilme.service.VersaoRoteiroService;
+import com.application.cooperfilme.service.exceptions.ArmazenamentoException;
+import com.application.cooperfilme.service.exceptions.PermissaoNegadaException;
+import com.application.cooperfilme.service.exceptions.RoteiroNaoEncontradoException;
+import com.application.cooperfilme.service.exceptions.VersaoDesatualizadaException;
+import com.application.cooperfilme.service.exceptions.VersaoObrigatoriaException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VersaoRoteiroServiceImpl implements VersaoRoteiroService {
+
+    private static final int INTERVALO_SNAPSHOT = 10;
+    private static final int MAXIMO_EDICOES_DELTA = 1000;
+    static final int MAXIMO_EDICOES_COMPARACAO = 5000;
+
+    private final RoteiroRepository roteiroRepository;
+    private final RoteiroArquivadoRepository roteiroArquivadoRepository;
+    private final VersaoRoteiroRepository versaoRoteiroRepository;
+    private final ArmazenamentoService armazenamentoService;
+    private final DeduplicacaoService deduplicacaoService;
+    private final SimilaridadeService similaridadeService;
+    private final BuscaService buscaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReconstrutorVersoes reconstrutorVersoes;
+
+    @Override
+    @Transactional
+    public Roteiro enviarVersao(Long roteiroId, NovaVersaoDTO novaVersaoDTO, Long versaoEsperada) {
+        if (versaoEsperada == null) {
+            throw new VersaoObrigatoriaException(roteiroId);
+        }
+        Roteiro roteiro = roteiroRepository.findByIdAndClienteEmail(roteiroId, novaVersaoDTO.clienteEmail())
+                .orElseThrow(() -> new RoteiroNaoEncontradoException(String.valueOf(roteiroId)));
+        if (!versaoEsperada.equals(roteiro.getVersao())) {
+            throw new VersaoDesatualizadaException(roteiroId);
+        }
+        if (roteiro.getStatus() != StatusRoteiro.AGUARDANDO_ANALISE) {
+            throw new PermissaoNegadaException("Novas versões só podem ser enviadas antes do início da análise",
+                    MotivoNegacao.STATUS_INVALIDO);
+        }
+
+        String atual = lerTexto(roteiro);
+        String novo = novaVersaoDTO.conteudo();
+        int numeroAtual = roteiro.getVersaoConteudo();
+        int numeroNovo = numeroAtual + 1;
+
+        if (!versaoRoteiroRepository.existsByRoteiroId(roteiroId)) {
+            versaoRoteiroRepository.save(new VersaoRoteiro(roteiroId, numeroAtual, TipoVersao.SNAPSHOT,
+                    DiferencaLinhas.comprimir(atual), (long) atual.length()));
+        }
+
+        VersaoRoteiro versao = null;
+        if (numeroNovo % INTERVALO_SNAPSHOT != 1) {
+            List<DiferencaLinhas.Operacao> operacoes = DiferencaLinhas.calcular(
+                    DiferencaLinhas.dividir(atual), DiferencaLinhas.dividir(novo), MAXIMO_EDICOES_DELTA);
+            if (operacoes != null) {
+                versao = new VersaoRoteiro(roteiroId, numeroNovo, TipoVersao.DELTA,
+                        DiferencaLinhas.codificar(operacoes), (long) novo.length());
+            }
+        }
+        if (versao == null) {
+            versao = new VersaoRoteiro(roteiroId, numeroNovo, TipoVersao.SNAPSHOT,
+                    DiferencaLinhas.comprimir(novo), (long) novo.length());
+        }
+        versaoRoteiroRepository.save(versao);
+
+        if (!roteiro.possuiConteudoArmazenado()) {
+            roteiro.setConteudo(novo);
+        }
+        roteiro.setVersaoConteudo(numeroNovo);
+        roteiro.setHashNormalizado(deduplicacaoService.calcularHash(new StringReader(novo)));
+        roteiro.setAssinaturaMinhash(similaridadeService.calcularAssinatura(new StringReader(novo)));
+
+        Roteiro salvo;
+        try {
+            salvo = roteiroRepository.saveAndFlush(roteiro);
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException(roteiroId);
+        }
+        similaridadeService.indexar(salvo.getId(), salvo.getAssinaturaMinhash());
+        buscaService.indexar(salvo);
+        eventPublisher.publishEvent(new RoteiroEnviadoEvent(salvo.getId()));
+
+        log.info("Roteiro {} recebeu a versão {} ({})", roteiroId, numeroNovo, versao.getTipo());
+        return salvo;
+    }
+
+    @Override
+    public List<VersaoRoteiroDTO> listarVersoes(Long roteiroId) {
+        return versaoRoteiroRepository.listarPorRoteiro(roteiroId);
+    }
+
+    @Override
+    public String buscarConteudo(Long roteiroId, Integer numero) {
+        return String.join("", reconstruir(roteiroId, numero));
+    }
+
+    @Override
+    public List<TrechoDiferencaDTO> compararVersoes(Long roteiroId, Integer de, Integer para) {
+        List<String> origem = reconstruir(roteiroId, de);
+        List<String> destino = reconstruir(roteiroId, para);
+
+        List<DiferencaLinhas.Operacao> operacoes = DiferencaLinhas.calcular(origem, destino, MAXIMO_EDICOES_COMPARACAO);
+        if (operacoes == null) {
+            operacoes = List.of(
+                    new DiferencaLinhas.Operacao(TipoTrechoDiferenca.REMOVIDO, origem.size(), List.of()),
+                    new DiferencaLinhas.Operacao(TipoTrechoDiferenca.ADICIONADO, destino.size(), destino));
+        }
+
+        List<TrechoDiferencaDTO> trechos = new ArrayList<>(operacoes.size());
+        int posicaoOrigem = 0;
+        for (DiferencaLinhas.Operacao operacao : operacoes) {
+            List<String> linhas = switch (operacao.tipo()) {
+                case IGUAL -> List.of();
+                case REMOVIDO -> origem.subList(posicaoOrigem, posicaoOrigem + operacao.quantidade());
+                case ADICIONADO -> operacao.linhas();
+            };
+            if (operacao.tipo() != TipoTrechoDiferenca.ADICIONADO) {
+                posicaoOrigem += operacao.quantidade();
+            }
+            trechos.add(new TrechoDiferencaDTO(operacao.tipo(), operacao.quantidade(),
+                    linhas.stream().map(String::stripTrailing).toList()));
+        }
+        return trechos;
+    }
+
+    private List<String> reconstruir(Long roteiroId, Integer numero) {
+        RoteiroBase roteiro = roteiroRepository.findById(roteiroId)
+                .<RoteiroBase>map(ativo -> ativo)
+                .or(() -> roteiroArquivadoRepository.findById(roteiroId))
+                .orElseThrow(() -> new RoteiroNaoEncontradoException(String.valueOf(roteiroId)));
+        if (numero.equals(roteiro.getVersaoConteudo())) {
+            return DiferencaLinhas.dividir(lerTexto(roteiro));
+        }
+
+        return reconstrutorVersoes.reconstruir(roteiroId, numero);
+    }
+
+    private String lerTexto(RoteiroBase roteiro) {
+        StringBuilder texto = new StringBuilder();
+        char[] buffer = new char[8192];
+        try (Reader leitor = armazenamentoService.abrirConteudo(roteiro)) {
+            int lidos;
+            while ((lidos = leitor.read(buffer)) != -1) {
+                texto.append(buffer, 0, lidos);
+            }
+        } catch (IOException e) {
+            log.error("Falha ao ler conteúdo do roteiro {}", roteiro.getId(), e);
+            throw new ArmazenamentoException("Não foi possível ler o conteúdo do roteiro " + roteiro.getId());
+        }
+        return texto.toString();
+    }
+}
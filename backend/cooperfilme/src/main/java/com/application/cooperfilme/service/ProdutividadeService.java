@@ -0,0 +1,14 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.ProdutividadeUsuarioDTO;
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+
+import java.util.List;
+
+public interface ProdutividadeService {
+    void registrarTransicao(Roteiro roteiro, StatusRoteiro anterior, EtapaRoteiro etapaEncerrada);
+    void registrarVoto(Long usuarioId, boolean aprovado);
+    List<ProdutividadeUsuarioDTO> listarEquipe();
+}
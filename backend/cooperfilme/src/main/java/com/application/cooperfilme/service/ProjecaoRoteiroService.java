@@ -0,0 +1,15 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.ColunaQuadroDTO;
+import com.application.cooperfilme.model.dto.VerificacaoProjecaoDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjecaoRoteiroService {
+    void atualizar(Roteiro roteiro, LocalDateTime momento);
+    int reconstruir();
+    VerificacaoProjecaoDTO verificar();
+    List<ColunaQuadroDTO> montarQuadro(int limitePorColuna);
+}
@@ -3,23 +3,29 @@ package com.application.cooperfilme.service;
 import com.application.cooperfilme.enums.StatusRoteiro;
 import com.application.cooperfilme.model.dto.AnaliseDTO;
 import com.application.cooperfilme.model.dto.RevisaoDTO;
+import com.application.cooperfilme.model.dto.RoteiroArquivoDTO;
 import com.application.cooperfilme.model.dto.RoteiroDTO;
 import com.application.cooperfilme.model.dto.VotacaoDTO;
 import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
 import com.application.cooperfilme.model.entity.Usuario;
 
+import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 
 public interface RoteiroService {
     Roteiro enviarRoteiro(RoteiroDTO roteiroDTO);
-    Roteiro assumirAnalise(Long roteiroId, Long usuarioId);
-    Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO);
-    Roteiro assumirRevisao(Long roteiroId, Long usuarioId);
-    Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO);
-    Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO);
-    List<Roteiro> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio);
-    Roteiro buscarRoteiro(Long id);
+    Roteiro enviarRoteiroArquivo(RoteiroArquivoDTO roteiroArquivoDTO, InputStream conteudo);
+    Roteiro assumirAnalise(Long roteiroId, Long usuarioId, Long versaoEsperada);
+    Roteiro analisarRoteiro(Long roteiroId, Long usuarioId, AnaliseDTO analiseDTO, Long versaoEsperada);
+    Roteiro assumirRevisao(Long roteiroId, Long usuarioId, Long versaoEsperada);
+    Roteiro revisarRoteiro(Long roteiroId, Long usuarioId, RevisaoDTO revisaoDTO, Long versaoEsperada);
+    Roteiro votarRoteiro(Long roteiroId, Long usuarioId, VotacaoDTO votoDTO, Long versaoEsperada);
+    List<RoteiroResumo> listarRoteiros(StatusRoteiro status, String emailUsuario, Date dataEnvio);
+    RoteiroBase buscarRoteiro(Long id);
+    Long buscarVersao(Long id);
     Usuario buscarUsuario(Long id);
-    List<Roteiro> listarRoteiros();
+    List<RoteiroResumo> listarRoteiros();
 }
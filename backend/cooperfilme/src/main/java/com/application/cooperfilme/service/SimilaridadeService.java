@@ -0,0 +1,13 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.RoteiroSimilarDTO;
+
+import java.io.Reader;
+import java.util.List;
+
+public interface SimilaridadeService {
+    byte[] calcularAssinatura(Reader conteudo);
+    void indexar(Long roteiroId, byte[] assinatura);
+    List<RoteiroSimilarDTO> buscarSimilares(Long roteiroId);
+    int reconstruirIndice();
+}
@@ -0,0 +1,17 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.TempoEtapaDTO;
+import com.application.cooperfilme.model.entity.EtapaRoteiro;
+import com.application.cooperfilme.model.entity.Roteiro;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TempoEtapaService {
+    Optional<EtapaRoteiro> registrarTransicao(Roteiro roteiro, StatusRoteiro anterior, LocalDateTime momento);
+    List<TempoEtapaDTO> consultar(LocalDate inicio, LocalDate fim);
+    void descarregar();
+}
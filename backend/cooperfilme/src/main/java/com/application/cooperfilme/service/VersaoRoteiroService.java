@@ -0,0 +1,15 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.model.dto.NovaVersaoDTO;
+import com.application.cooperfilme.model.dto.TrechoDiferencaDTO;
+import com.application.cooperfilme.model.dto.VersaoRoteiroDTO;
+import com.application.cooperfilme.model.entity.Roteiro;
+
+import java.util.List;
+
+public interface VersaoRoteiroService {
+    Roteiro enviarVersao(Long roteiroId, NovaVersaoDTO novaVersaoDTO, Long versaoEsperada);
+    List<VersaoRoteiroDTO> listarVersoes(Long roteiroId);
+    String buscarConteudo(Long roteiroId, Integer numero);
+    List<TrechoDiferencaDTO> compararVersoes(Long roteiroId, Integer de, Integer para);
+}
@@ -0,0 +1,5 @@
+package com.application.cooperfilme.service.exceptions;
+
+public class ArmazenamentoException extends CooperFilmeException{
+    public ArmazenamentoException(String message) { super(message); }
+}
@@ -1,5 +1,19 @@
 package com.application.cooperfilme.service.exceptions;
 
+import com.application.cooperfilme.enums.MotivoNegacao;
+
 public class PermissaoNegadaException extends CooperFilmeException{
-    public PermissaoNegadaException(String message) { super(message); }
+
+    private final MotivoNegacao motivo;
+
+    public PermissaoNegadaException(String message) { this(message, MotivoNegacao.NAO_INFORMADO); }
+
+    public PermissaoNegadaException(String message, MotivoNegacao motivo) {
+        super(message);
+        this.motivo = motivo;
+    }
+
+    public MotivoNegacao getMotivo() {
+        return motivo;
+    }
 }
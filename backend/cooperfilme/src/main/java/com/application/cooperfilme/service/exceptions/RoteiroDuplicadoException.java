@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RoteiroDuplicadoException extends CooperFilmeException{
+    public RoteiroDuplicadoException(Long idExistente) {
+        super("Roteiro já enviado anteriormente: " + idExistente);
+    }
+}
@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class VersaoDesatualizadaException extends CooperFilmeException{
+    public VersaoDesatualizadaException(Long roteiroId) {
+        super("Roteiro " + roteiroId + " foi alterado por outro usuário");
+    }
+}
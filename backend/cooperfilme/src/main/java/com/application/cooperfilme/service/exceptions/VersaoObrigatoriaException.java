@@ -0,0 +1,11 @@
+package com.application.cooperfilme.service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class VersaoObrigatoriaException extends CooperFilmeException{
+    public VersaoObrigatoriaException(Long roteiroId) {
+        super("Informe a versão atual do roteiro " + roteiroId + " no cabeçalho If-Match");
+    }
+}
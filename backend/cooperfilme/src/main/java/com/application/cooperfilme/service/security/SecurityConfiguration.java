@@ -55,7 +55,10 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.POST, "/usuarios/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/usuarios/cadastrar").permitAll()
                         .requestMatchers(HttpMethod.POST, "/roteiros/enviar").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/roteiros/enviar-arquivo").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/roteiros/*/versoes").permitAll()
                         .requestMatchers(HttpMethod.GET, "/clientes/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
 
                         .anyRequest().authenticated()
                 )
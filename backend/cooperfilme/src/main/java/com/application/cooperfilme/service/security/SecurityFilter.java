@@ -1,6 +1,9 @@
 package com.application.cooperfilme.service.security;
 
 import com.application.cooperfilme.repository.UsuarioRepository;
+import com.application.cooperfilme.web.monitoramento.EtapasRequisicao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 
 @Component
@@ -22,17 +26,30 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     private final UsuarioRepository usuarioRespository;
 
-    public SecurityFilter(TokenService tokenService, UsuarioRepository usuarioRespository) {
+    private final Timer validacaoTokenValido;
+
+    private final Timer validacaoTokenInvalido;
+
+    public SecurityFilter(TokenService tokenService, UsuarioRepository usuarioRespository, MeterRegistry meterRegistry) {
         this.tokenService = tokenService;
         this.usuarioRespository = usuarioRespository;
+        this.validacaoTokenValido = temporizadorValidacao("valido").register(meterRegistry);
+        this.validacaoTokenInvalido = temporizadorValidacao("invalido").register(meterRegistry);
     }
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var token = this.recoverToken(request);
         if(token != null){
+            long inicio = System.nanoTime();
             var email = tokenService.validateToken(token);
+            (email.isEmpty() ? validacaoTokenInvalido : validacaoTokenValido)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
             UserDetails user = usuarioRespository.findByEmail(email)
                     .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+            EtapasRequisicao etapas = EtapasRequisicao.atual();
+            if (etapas != null) {
+                etapas.registrarAutenticacao(System.nanoTime() - inicio);
+            }
 
             var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -40,6 +57,12 @@ public class SecurityFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Timer.Builder temporizadorValidacao(String resultado) {
+        return Timer.builder("cooperfilme.seguranca.jwt.validacao")
+                .description("Duração da validação do token JWT")
+                .tag("resultado", resultado);
+    }
+
     private String recoverToken(HttpServletRequest request){
         var authHeader = request.getHeader("Authorization");
         if(authHeader == null) return null;
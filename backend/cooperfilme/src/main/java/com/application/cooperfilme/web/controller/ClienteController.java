@@ -1,33 +1,39 @@
 package com.application.cooperfilme.web.controller;
 
-import com.application.cooperfilme.model.dto.ClienteRespostaDTO;
+import com.application.cooperfilme.model.dto.ClientePortalDTO;
 import com.application.cooperfilme.service.ClienteService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @Slf4j
 @RequestMapping("/clientes")
-@Transactional
 public class ClienteController {
 
     @Autowired
     private ClienteService clienteService;
 
 
-    @Operation(summary = "Buscar cliente por email", description = "Busca um cliente específico pelo email")
+    @Operation(summary = "Buscar cliente por email", description = "Busca um cliente específico pelo email; responde 304 quando o ETag informado ainda é válido")
     @GetMapping("/email/{email}")
-    public ResponseEntity<?> buscarClientePorEmail(@PathVariable String email) {
+    public ResponseEntity<?> buscarClientePorEmail(@PathVariable String email, WebRequest request) {
         log.info("Buscando cliente com email: {}", email);
 
-        ClienteRespostaDTO cliente = clienteService.buscarPorEmail(email);
-        return ResponseEntity.ok(cliente);
+        ClientePortalDTO portal = clienteService.consultarPortal(email);
+        if (request.checkNotModified(portal.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(portal.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(portal.cliente());
     }
 }
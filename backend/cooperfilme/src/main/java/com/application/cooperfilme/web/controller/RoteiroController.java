@@ -2,16 +2,43 @@ package com.application.cooperfilme.web.controller;
 
 import com.application.cooperfilme.enums.StatusRoteiro;
 import com.application.cooperfilme.model.dto.AnaliseDTO;
+import com.application.cooperfilme.model.dto.ColunaQuadroDTO;
+import com.application.cooperfilme.model.dto.ContadoresStatusDTO;
+import com.application.cooperfilme.model.dto.EstruturaRoteiroDTO;
+import com.application.cooperfilme.model.dto.NovaVersaoDTO;
+import com.application.cooperfilme.model.dto.ResultadoBuscaDTO;
 import com.application.cooperfilme.model.dto.RevisaoDTO;
+import com.application.cooperfilme.model.dto.RoteiroArquivoDTO;
 import com.application.cooperfilme.model.dto.RoteiroDTO;
+import com.application.cooperfilme.model.dto.RoteiroSimilarDTO;
+import com.application.cooperfilme.model.dto.TempoEtapaDTO;
+import com.application.cooperfilme.model.dto.TrechoDiferencaDTO;
+import com.application.cooperfilme.model.dto.VerificacaoProjecaoDTO;
+import com.application.cooperfilme.model.dto.VersaoRoteiroDTO;
 import com.application.cooperfilme.model.dto.VotacaoDTO;
 import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
+import com.application.cooperfilme.service.ArmazenamentoService;
+import com.application.cooperfilme.service.BuscaService;
+import com.application.cooperfilme.service.ContadorStatusService;
+import com.application.cooperfilme.service.EstruturaRoteiroService;
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import com.application.cooperfilme.service.TempoEtapaService;
 import com.application.cooperfilme.service.RoteiroService;
+import com.application.cooperfilme.service.SimilaridadeService;
+import com.application.cooperfilme.service.VersaoRoteiroService;
+import com.application.cooperfilme.service.exceptions.VersaoDesatualizadaException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -22,8 +49,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 
@@ -36,6 +71,30 @@ public class RoteiroController {
     @Autowired
     private RoteiroService roteiroService;
 
+    @Autowired
+    private ArmazenamentoService armazenamentoService;
+
+    @Autowired
+    private SimilaridadeService similaridadeService;
+
+    @Autowired
+    private BuscaService buscaService;
+
+    @Autowired
+    private EstruturaRoteiroService estruturaRoteiroService;
+
+    @Autowired
+    private VersaoRoteiroService versaoRoteiroService;
+
+    @Autowired
+    private ProjecaoRoteiroService projecaoRoteiroService;
+
+    @Autowired
+    private ContadorStatusService contadorStatusService;
+
+    @Autowired
+    private TempoEtapaService tempoEtapaService;
+
     @Operation(summary = "Enviar roteiro", description = "Endpoint público para clientes enviarem roteiros")
     @PostMapping("/enviar")
     public ResponseEntity<Roteiro> enviarRoteiro(@RequestBody @Valid RoteiroDTO roteiroDTO) {
@@ -43,14 +102,26 @@ public class RoteiroController {
         return ResponseEntity.ok(roteiro);
     }
 
+    @Operation(summary = "Enviar roteiro por arquivo", description = "Endpoint público para envio de roteiros grandes via multipart")
+    @PostMapping(value = "/enviar-arquivo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Roteiro> enviarRoteiroArquivo(
+            @ModelAttribute @Valid RoteiroArquivoDTO roteiroArquivoDTO,
+            @RequestPart("arquivo") MultipartFile arquivo) throws IOException {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            Roteiro roteiro = roteiroService.enviarRoteiroArquivo(roteiroArquivoDTO, conteudo);
+            return ResponseEntity.ok(roteiro);
+        }
+    }
+
     @Operation(summary = "Assumir análise", description = "Analista assume um roteiro para análise")
     @PreAuthorize("hasRole('ANALISTA')")
     @PutMapping("/assumir-analise/{id}/{usuarioId}")
     public ResponseEntity<Roteiro> assumirAnalise(
             @PathVariable Long id,
-            @PathVariable Long usuarioId) {
-        Roteiro roteiro = roteiroService.assumirAnalise(id, usuarioId);
-        return ResponseEntity.ok(roteiro);
+            @PathVariable Long usuarioId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Roteiro roteiro = roteiroService.assumirAnalise(id, usuarioId, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
     }
 
     @Operation(summary = "Analisar roteiro", description = "Analista analisa um roteiro e decide se envia para revisão")
@@ -59,9 +130,10 @@ public class RoteiroController {
     public ResponseEntity<Roteiro> analisarRoteiro(
             @PathVariable Long id,
             @PathVariable Long usuarioId,
-            @RequestBody @Valid AnaliseDTO analiseDTO) {
-        Roteiro roteiro = roteiroService.analisarRoteiro(id, usuarioId, analiseDTO);
-        return ResponseEntity.ok(roteiro);
+            @RequestBody @Valid AnaliseDTO analiseDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Roteiro roteiro = roteiroService.analisarRoteiro(id, usuarioId, analiseDTO, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
     }
 
     @Operation(summary = "Assumir revisão", description = "Revisor assume um roteiro para revisão")
@@ -69,9 +141,10 @@ public class RoteiroController {
     @PutMapping("/assumir-revisao/{id}/{usuarioId}")
     public ResponseEntity<Roteiro> assumirRevisao(
             @PathVariable Long id,
-            @PathVariable Long usuarioId) {
-        Roteiro roteiro = roteiroService.assumirRevisao(id, usuarioId);
-        return ResponseEntity.ok(roteiro);
+            @PathVariable Long usuarioId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Roteiro roteiro = roteiroService.assumirRevisao(id, usuarioId, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
     }
 
     @Operation(summary = "Revisar roteiro", description = "Revisor revisa um roteiro e envia para aprovação")
@@ -80,9 +153,10 @@ public class RoteiroController {
     public ResponseEntity<Roteiro> revisarRoteiro(
             @PathVariable Long id,
             @PathVariable Long usuarioId,
-            @RequestBody @Valid RevisaoDTO revisaoDTO) {
-        Roteiro roteiro = roteiroService.revisarRoteiro(id, usuarioId, revisaoDTO);
-        return ResponseEntity.ok(roteiro);
+            @RequestBody @Valid RevisaoDTO revisaoDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Roteiro roteiro = roteiroService.revisarRoteiro(id, usuarioId, revisaoDTO, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
     }
 
     @Operation(summary = "Votar no roteiro", description = "Aprovador vota na aprovação ou recusa de um roteiro")
@@ -91,36 +165,213 @@ public class RoteiroController {
     public ResponseEntity<Roteiro> votarRoteiro(
             @PathVariable Long id,
             @PathVariable Long usuarioId,
-            @RequestBody @Valid VotacaoDTO votoDTO) {
-        Roteiro roteiro = roteiroService.votarRoteiro(id, usuarioId, votoDTO);
-        return ResponseEntity.ok(roteiro);
+            @RequestBody @Valid VotacaoDTO votoDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Roteiro roteiro = roteiroService.votarRoteiro(id, usuarioId, votoDTO, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
     }
 
     @Operation(summary = "Listar roteiros", description = "Lista roteiros com filtros opcionais por status e usuário")
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<Roteiro>> listarRoteiros(
+    public ResponseEntity<List<RoteiroResumo>> listarRoteiros(
             @RequestParam(required = false) StatusRoteiro status,
             @RequestParam(required = false) String emailUsuario,
             @RequestParam(required = false) Date dataEnvio) {
-        List<Roteiro> roteiros = roteiroService.listarRoteiros(status, emailUsuario, dataEnvio);
+        List<RoteiroResumo> roteiros = roteiroService.listarRoteiros(status, emailUsuario, dataEnvio);
         return ResponseEntity.ok(roteiros);
     }
 
     @Operation(summary = "Buscar roteiro", description = "Busca um roteiro específico por ID")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/{id}")
-    public ResponseEntity<Roteiro> buscarRoteiro(@PathVariable Long id) {
-        Roteiro roteiro = roteiroService.buscarRoteiro(id);
-        return ResponseEntity.ok(roteiro);
+    public ResponseEntity<RoteiroBase> buscarRoteiro(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(etag(roteiroService.buscarVersao(id)))) {
+            return null;
+        }
+        RoteiroBase roteiro = roteiroService.buscarRoteiro(id);
+        return comVersao(roteiro);
+    }
+
+    @Operation(summary = "Baixar conteúdo", description = "Retorna o conteúdo do roteiro com suporte a HTTP Range")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/conteudo")
+    public void baixarConteudo(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletResponse response) throws IOException {
+        RoteiroBase roteiro = roteiroService.buscarRoteiro(id);
+        boolean arquivo = roteiro.conteudoAtualNoArquivo();
+        byte[] conteudoInline = null;
+        if (!arquivo) {
+            String texto = roteiro.possuiConteudoArmazenado()
+                    ? versaoRoteiroService.buscarConteudo(id, roteiro.getVersaoConteudo())
+                    : roteiro.getConteudo();
+            conteudoInline = texto.getBytes(StandardCharsets.UTF_8);
+        }
+        long tamanho = arquivo ? roteiro.getConteudoTamanho() : conteudoInline.length;
+
+        long inicio = 0;
+        long fim = tamanho - 1;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            if (ranges.size() == 1) {
+                inicio = ranges.get(0).getRangeStart(tamanho);
+                fim = ranges.get(0).getRangeEnd(tamanho);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fim + "/" + tamanho);
+            }
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho);
+            return;
+        }
+
+        long quantidade = fim - inicio + 1;
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (arquivo) {
+            response.setHeader(HttpHeaders.ETAG, "\"" + roteiro.getConteudoHash() + "\"");
+        }
+        response.setContentLengthLong(quantidade);
+
+        if (arquivo) {
+            armazenamentoService.transferir(roteiro.getConteudoHash(), inicio, quantidade, response.getOutputStream());
+        } else {
+            response.getOutputStream().write(conteudoInline, (int) inicio, (int) quantidade);
+        }
+    }
+
+    @Operation(summary = "Buscar roteiros", description = "Busca textual em título e conteúdo, com suporte a frases entre aspas")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/buscar")
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscarRoteiros(
+            @RequestParam("q") String consulta,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        List<ResultadoBuscaDTO> resultados = buscaService.buscar(consulta, pagina, tamanho);
+        return ResponseEntity.ok(resultados);
+    }
+
+    @Operation(summary = "Enviar nova versão", description = "Endpoint público para o cliente enviar um novo rascunho do roteiro enquanto aguarda análise; exige o cabeçalho If-Match com a versão atual")
+    @PostMapping("/{id}/versoes")
+    public ResponseEntity<Roteiro> enviarVersao(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid NovaVersaoDTO novaVersaoDTO) {
+        Roteiro roteiro = versaoRoteiroService.enviarVersao(id, novaVersaoDTO, versaoEsperada(id, ifMatch));
+        return comVersao(roteiro);
+    }
+
+    @Operation(summary = "Listar versões", description = "Lista as versões armazenadas do conteúdo do roteiro")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/versoes")
+    public ResponseEntity<List<VersaoRoteiroDTO>> listarVersoes(@PathVariable Long id) {
+        List<VersaoRoteiroDTO> versoes = versaoRoteiroService.listarVersoes(id);
+        return ResponseEntity.ok(versoes);
+    }
+
+    @Operation(summary = "Conteúdo da versão", description = "Reconstrói o conteúdo de uma versão específica")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping(value = "/{id}/versoes/{numero}/conteudo", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> buscarConteudoVersao(
+            @PathVariable Long id,
+            @PathVariable Integer numero) {
+        String conteudo = versaoRoteiroService.buscarConteudo(id, numero);
+        return ResponseEntity.ok(conteudo);
+    }
+
+    @Operation(summary = "Comparar versões", description = "Diferença linha a linha entre duas versões do roteiro")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/versoes/{de}/diferenca/{para}")
+    public ResponseEntity<List<TrechoDiferencaDTO>> compararVersoes(
+            @PathVariable Long id,
+            @PathVariable Integer de,
+            @PathVariable Integer para) {
+        List<TrechoDiferencaDTO> diferenca = versaoRoteiroService.compararVersoes(id, de, para);
+        return ResponseEntity.ok(diferenca);
+    }
+
+    @Operation(summary = "Estrutura do roteiro", description = "Cenas, personagens e páginas estimadas extraídas após o envio")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/estrutura")
+    public ResponseEntity<EstruturaRoteiroDTO> buscarEstrutura(@PathVariable Long id) {
+        EstruturaRoteiroDTO estrutura = estruturaRoteiroService.buscar(id);
+        return ResponseEntity.ok(estrutura);
+    }
+
+    @Operation(summary = "Roteiros similares", description = "Lista roteiros com conteúdo semelhante (MinHash/LSH)")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/similares")
+    public ResponseEntity<List<RoteiroSimilarDTO>> buscarSimilares(@PathVariable Long id) {
+        List<RoteiroSimilarDTO> similares = similaridadeService.buscarSimilares(id);
+        return ResponseEntity.ok(similares);
     }
 
     @Operation(summary = "Listar Roteiros", description = "Busca todos os roteiros enviados")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/listar-todos")
-    public ResponseEntity<List<Roteiro>> listarRoteiros() {
-        List<Roteiro> roteiros = roteiroService.listarRoteiros();
+    public ResponseEntity<List<RoteiroResumo>> listarRoteiros() {
+        List<RoteiroResumo> roteiros = roteiroService.listarRoteiros();
         return ResponseEntity.ok(roteiros);
     }
 
+    @Operation(summary = "Quadro de roteiros", description = "Total por status e os roteiros mais antigos de cada coluna, em uma única consulta")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/quadro")
+    public ResponseEntity<List<ColunaQuadroDTO>> montarQuadro(@RequestParam(defaultValue = "10") int limite) {
+        List<ColunaQuadroDTO> quadro = projecaoRoteiroService.montarQuadro(limite);
+        return ResponseEntity.ok(quadro);
+    }
+
+    @Operation(summary = "Contadores por status", description = "Quantidade atual de roteiros em cada status e vazão de transições, mantidas em memória")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/contadores")
+    public ResponseEntity<ContadoresStatusDTO> consultarContadores() {
+        ContadoresStatusDTO contadores = contadorStatusService.consultar();
+        return ResponseEntity.ok(contadores);
+    }
+
+    @Operation(summary = "Tempo por etapa", description = "Média e percentis do tempo em cada etapa no período, a partir dos agregados diários")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/tempos-etapa")
+    public ResponseEntity<List<TempoEtapaDTO>> consultarTemposEtapa(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+        LocalDate ate = fim != null ? fim : LocalDate.now();
+        LocalDate de = inicio != null ? inicio : ate.minusDays(30);
+        List<TempoEtapaDTO> tempos = tempoEtapaService.consultar(de, ate);
+        return ResponseEntity.ok(tempos);
+    }
+
+    @Operation(summary = "Verificar resumo", description = "Compara a projeção de leitura com as tabelas de origem")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/resumo/verificar")
+    public ResponseEntity<VerificacaoProjecaoDTO> verificarResumo() {
+        VerificacaoProjecaoDTO verificacao = projecaoRoteiroService.verificar();
+        return ResponseEntity.ok(verificacao);
+    }
+
+    private <T extends RoteiroBase> ResponseEntity<T> comVersao(T roteiro) {
+        return ResponseEntity.ok().eTag(etag(roteiro.getVersao())).body(roteiro);
+    }
+
+    private String etag(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    private Long versaoEsperada(Long roteiroId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            throw new VersaoDesatualizadaException(roteiroId);
+        }
+        try {
+            return Long.parseLong(valor.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new VersaoDesatualizadaException(roteiroId);
+        }
+    }
 }
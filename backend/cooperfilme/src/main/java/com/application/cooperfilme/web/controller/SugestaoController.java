@@ -0,0 +1,34 @@
+package com.application.cooperfilme.web.controller;
+
+import com.application.cooperfilme.model.dto.SugestaoDTO;
+import com.application.cooperfilme.service.AutocompletarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@Controller
+@RequestMapping("/sugestoes")
+@Tag(name = "Sugestao", description = "Autocompletar de títulos e clientes")
+public class SugestaoController {
+
+    @Autowired
+    private AutocompletarService autocompletarService;
+
+    @Operation(summary = "Sugerir", description = "Retorna títulos de roteiros e nomes de clientes que começam com o prefixo informado")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping
+    public ResponseEntity<List<SugestaoDTO>> sugerir(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite) {
+        List<SugestaoDTO> sugestoes = autocompletarService.sugerir(prefixo, limite);
+        return ResponseEntity.ok(sugestoes);
+    }
+}
@@ -2,11 +2,14 @@ package com.application.cooperfilme.web.controller;
 
 import com.application.cooperfilme.model.dto.AutenticacaoDTO;
 import com.application.cooperfilme.model.dto.LoginDTO;
+import com.application.cooperfilme.model.dto.ProdutividadeUsuarioDTO;
 import com.application.cooperfilme.model.dto.UsuarioDTO;
 import com.application.cooperfilme.model.dto.UsuarioRespostaDTO;
 import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.service.ProdutividadeService;
 import com.application.cooperfilme.service.UsuarioService;
 import com.application.cooperfilme.web.SystemMessage;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,6 +29,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 
+import java.util.List;
+
 @Controller
 @RequestMapping("/usuarios")
 @Tag(name = "Usuario", description = "Gerenciamento de usuarios")
@@ -39,6 +45,9 @@ public class UsuarioController {
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private ProdutividadeService produtividadeService;
+
     @PostMapping(value = "/cadastrar",
             consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE },
             produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
@@ -56,6 +65,15 @@ public class UsuarioController {
         return ResponseEntity.ok().body(userMessage);
     }
 
+    @Operation(summary = "Produtividade da equipe", description = "Itens em posse, concluídos na semana, tempo médio de atendimento e taxa de aprovação por usuário")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping(value = "/produtividade", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SystemMessage<List<ProdutividadeUsuarioDTO>>> listarProdutividade() {
+        List<ProdutividadeUsuarioDTO> equipe = produtividadeService.listarEquipe();
+        SystemMessage<List<ProdutividadeUsuarioDTO>> mensagem = new SystemMessage<>(HttpStatus.OK.value(), "Produtividade lida com sucesso", equipe);
+        return ResponseEntity.ok().body(mensagem);
+    }
+
     @PutMapping(value = "/atualizar/{id}",
             produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
     public  ResponseEntity<?> atualizarUsuario(@PathVariable Long id, @RequestBody UsuarioDTO usuarioDTO) {
@@ -0,0 +1,26 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import com.application.cooperfilme.model.dto.ConsultaSqlDTO;
+import com.application.cooperfilme.service.EstatisticaConsultaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "consultas")
+@RequiredArgsConstructor
+public class ConsultasSqlEndpoint {
+
+    private static final int LIMITE_PADRAO = 10;
+
+    private final EstatisticaConsultaService estatisticaConsultaService;
+
+    @ReadOperation
+    public List<ConsultaSqlDTO> listar(@Nullable Integer limite) {
+        return estatisticaConsultaService.listarMaisCustosas(limite != null ? limite : LIMITE_PADRAO);
+    }
+}
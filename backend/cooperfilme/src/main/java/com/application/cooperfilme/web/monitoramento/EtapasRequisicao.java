@@ -0,0 +1,128 @@
+package com.application.cooperfilme.web.monitoramento;
+
+public final class EtapasRequisicao {
+
+    private static final ThreadLocal<EtapasRequisicao> ATUAL = ThreadLocal.withInitial(EtapasRequisicao::new);
+
+    private boolean ativa;
+    private long inicio;
+    private long inicioServico;
+    private long inicioSerializacao;
+    private long autenticacaoNanos;
+    private long sqlNanos;
+    private long inicioSql;
+    private int consultas;
+    private int consultasAntesSerializacao;
+
+    private EtapasRequisicao() {
+    }
+
+    static EtapasRequisicao iniciar() {
+        EtapasRequisicao etapas = ATUAL.get();
+        etapas.ativa = true;
+        etapas.inicio = System.nanoTime();
+        etapas.inicioServico = 0;
+        etapas.inicioSerializacao = 0;
+        etapas.autenticacaoNanos = 0;
+        etapas.sqlNanos = 0;
+        etapas.inicioSql = 0;
+        etapas.consultas = 0;
+        etapas.consultasAntesSerializacao = 0;
+        return etapas;
+    }
+
+    public static EtapasRequisicao atual() {
+        EtapasRequisicao etapas = ATUAL.get();
+        return etapas.ativa ? etapas : null;
+    }
+
+    void encerrar() {
+        ativa = false;
+    }
+
+    public void registrarAutenticacao(long nanos) {
+        autenticacaoNanos += nanos;
+    }
+
+    public void iniciarSql() {
+        inicioSql = System.nanoTime();
+    }
+
+    public void encerrarSql() {
+        if (inicioSql != 0) {
+            sqlNanos += System.nanoTime() - inicioSql;
+            inicioSql = 0;
+        }
+        consultas++;
+    }
+
+    void iniciarServico() {
+        if (inicioServico == 0) {
+            inicioServico = System.nanoTime();
+        }
+    }
+
+    void iniciarSerializacao() {
+        if (inicioSerializacao == 0) {
+            inicioSerializacao = System.nanoTime();
+            consultasAntesSerializacao = consultas;
+        }
+    }
+
+    long totalNanos(long agora) {
+        return agora - inicio;
+    }
+
+    long filtroNanos() {
+        return inicioServico == 0 ? 0 : inicioServico - inicio - autenticacaoNanos;
+    }
+
+    long servicoNanos(long agora) {
+        if (inicioServico == 0) {
+            return 0;
+        }
+        return (inicioSerializacao == 0 ? agora : inicioSerializacao) - inicioServico;
+    }
+
+    long serializacaoNanos(long agora) {
+        return inicioSerializacao == 0 ? 0 : agora - inicioSerializacao;
+    }
+
+    long autenticacaoNanos() {
+        return autenticacaoNanos;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    int consultas() {
+        return consultas;
+    }
+
+    int consultasNaSerializacao() {
+        return inicioSerializacao == 0 ? 0 : consultas - consultasAntesSerializacao;
+    }
+
+    String cabecalhoServerTiming() {
+        long agora = System.nanoTime();
+        StringBuilder cabecalho = new StringBuilder(160);
+        adicionar(cabecalho, "filtro", filtroNanos());
+        adicionar(cabecalho, "autenticacao", autenticacaoNanos);
+        adicionar(cabecalho, "servico", servicoNanos(agora));
+        adicionar(cabecalho, "sql", sqlNanos).append(";desc=\"").append(consultas).append(" consultas\"");
+        adicionar(cabecalho, "total", totalNanos(agora));
+        return cabecalho.toString();
+    }
+
+    static double milissegundos(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private StringBuilder adicionar(StringBuilder cabecalho, String nome, long nanos) {
+        if (!cabecalho.isEmpty()) {
+            cabecalho.append(", ");
+        }
+        return cabecalho.append(nome).append(";dur=").append(milissegundos(nanos));
+    }
+}
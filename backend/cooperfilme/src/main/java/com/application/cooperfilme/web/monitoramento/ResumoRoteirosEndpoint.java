@@ -0,0 +1,20 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "resumo")
+@RequiredArgsConstructor
+public class ResumoRoteirosEndpoint {
+
+    private final ProjecaoRoteiroService projecaoRoteiroService;
+
+    @WriteOperation
+    public int reconstruir() {
+        return projecaoRoteiroService.reconstruir();
+    }
+}
@@ -0,0 +1,20 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import com.application.cooperfilme.service.SimilaridadeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "similaridade")
+@RequiredArgsConstructor
+public class SimilaridadeEndpoint {
+
+    private final SimilaridadeService similaridadeService;
+
+    @WriteOperation
+    public int reconstruir() {
+        return similaridadeService.reconstruirIndice();
+    }
+}
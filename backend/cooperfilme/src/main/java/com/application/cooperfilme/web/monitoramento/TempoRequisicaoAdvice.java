@@ -0,0 +1,38 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+public class TempoRequisicaoAdvice implements ResponseBodyAdvice<Object> {
+
+    private final TempoRequisicaoFilter tempoRequisicaoFilter;
+
+    public TempoRequisicaoAdvice(TempoRequisicaoFilter tempoRequisicaoFilter) {
+        this.tempoRequisicaoFilter = tempoRequisicaoFilter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        EtapasRequisicao etapas = EtapasRequisicao.atual();
+        if (etapas != null) {
+            etapas.iniciarSerializacao();
+            if (tempoRequisicaoFilter.cabecalhoHabilitado()) {
+                response.getHeaders().set(TempoRequisicaoFilter.SERVER_TIMING, etapas.cabecalhoServerTiming());
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TempoRequisicaoFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean cabecalhoHabilitado;
+    private final double taxaAmostragem;
+    private final long limiteLentaNanos;
+
+    public TempoRequisicaoFilter(@Value("${api.tempo-requisicao.cabecalho:false}") boolean cabecalhoHabilitado,
+                                 @Value("${api.tempo-requisicao.amostragem:0.01}") double taxaAmostragem,
+                                 @Value("${api.tempo-requisicao.lenta-ms:1000}") long limiteLentaMs) {
+        this.cabecalhoHabilitado = cabecalhoHabilitado;
+        this.taxaAmostragem = taxaAmostragem;
+        this.limiteLentaNanos = Duration.ofMillis(limiteLentaMs).toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EtapasRequisicao etapas = EtapasRequisicao.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (cabecalhoHabilitado && !response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, etapas.cabecalhoServerTiming());
+            }
+            registrar(request, response, etapas);
+            etapas.encerrar();
+        }
+    }
+
+    boolean cabecalhoHabilitado() {
+        return cabecalhoHabilitado;
+    }
+
+    private void registrar(HttpServletRequest request, HttpServletResponse response, EtapasRequisicao etapas) {
+        long agora = System.nanoTime();
+        long total = etapas.totalNanos(agora);
+        boolean amostrada = taxaAmostragem > 0 && ThreadLocalRandom.current().nextDouble() < taxaAmostragem;
+        if (total < limiteLentaNanos && !amostrada) {
+            return;
+        }
+
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        log.info("metodo={} rota={} status={} lenta={} total_ms={} filtro_ms={} autenticacao_ms={} servico_ms={} "
+                        + "serializacao_ms={} sql_ms={} sql_consultas={} sql_consultas_serializacao={}",
+                request.getMethod(),
+                padrao != null ? padrao : request.getRequestURI(),
+                response.getStatus(),
+                total >= limiteLentaNanos,
+                EtapasRequisicao.milissegundos(total),
+                EtapasRequisicao.milissegundos(etapas.filtroNanos()),
+                EtapasRequisicao.milissegundos(etapas.autenticacaoNanos()),
+                EtapasRequisicao.milissegundos(etapas.servicoNanos(agora)),
+                EtapasRequisicao.milissegundos(etapas.serializacaoNanos(agora)),
+                EtapasRequisicao.milissegundos(etapas.sqlNanos()),
+                etapas.consultas(),
+                etapas.consultasNaSerializacao());
+    }
+}
@@ -0,0 +1,19 @@
+package com.application.cooperfilme.web.monitoramento;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class TempoRequisicaoInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        EtapasRequisicao etapas = EtapasRequisicao.atual();
+        if (etapas != null) {
+            etapas.iniciarServico();
+        }
+        return true;
+    }
+}
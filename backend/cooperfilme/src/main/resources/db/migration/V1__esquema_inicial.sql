@@ -0,0 +1,138 @@
+CREATE TABLE IF NOT EXISTS tb_usuario (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(255),
+    email VARCHAR(255),
+    campo_senha VARCHAR(255),
+    cargo VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS tb_cliente (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    telefone VARCHAR(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiros (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    titulo VARCHAR(200) NOT NULL,
+    conteudo TEXT,
+    conteudo_hash VARCHAR(64),
+    conteudo_tamanho BIGINT,
+    hash_normalizado VARCHAR(64),
+    roteiro_original_id BIGINT,
+    versao_conteudo INTEGER NOT NULL DEFAULT 1,
+    versao BIGINT NOT NULL DEFAULT 0,
+    assinatura_minhash BYTEA,
+    status VARCHAR(255) NOT NULL,
+    data_envio TIMESTAMP(6) NOT NULL,
+    observacoes_analise VARCHAR(1000),
+    observacoes_revisao VARCHAR(1000),
+    cliente_id BIGINT NOT NULL REFERENCES tb_cliente (id),
+    usuario_responsavel_id BIGINT REFERENCES tb_usuario (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_votacao (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    roteiro_id BIGINT NOT NULL REFERENCES tb_roteiros (id),
+    aprovador_id BIGINT NOT NULL REFERENCES tb_usuario (id),
+    aprovado BOOLEAN NOT NULL,
+    justificativa VARCHAR(1000),
+    data_voto TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiro_versoes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    roteiro_id BIGINT NOT NULL,
+    numero INTEGER NOT NULL,
+    tipo VARCHAR(255) NOT NULL,
+    dados BYTEA NOT NULL,
+    tamanho_original BIGINT NOT NULL,
+    tamanho_armazenado INTEGER NOT NULL,
+    data_criacao TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_roteiro_versoes_numero UNIQUE (roteiro_id, numero)
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiro_estrutura (
+    roteiro_id BIGINT PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    cenas INTEGER NOT NULL,
+    personagens INTEGER NOT NULL,
+    transicoes INTEGER NOT NULL,
+    linhas_dialogo INTEGER NOT NULL,
+    palavras BIGINT NOT NULL,
+    paginas_estimadas INTEGER NOT NULL,
+    data_processamento TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiro_falas (
+    roteiro_id BIGINT NOT NULL REFERENCES tb_roteiro_estrutura (roteiro_id),
+    personagem VARCHAR(100) NOT NULL,
+    falas INTEGER,
+    PRIMARY KEY (roteiro_id, personagem)
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiro_etapas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    roteiro_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    usuario_id BIGINT,
+    data_entrada TIMESTAMP(6) NOT NULL,
+    data_saida TIMESTAMP(6),
+    duracao_segundos BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS tb_roteiro_resumo (
+    roteiro_id BIGINT PRIMARY KEY,
+    titulo VARCHAR(200) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    cliente_id BIGINT NOT NULL,
+    cliente_nome VARCHAR(100),
+    cliente_email VARCHAR(100),
+    responsavel_id BIGINT,
+    responsavel_nome VARCHAR(255),
+    responsavel_email VARCHAR(255),
+    votos_aprovados BIGINT NOT NULL,
+    votos_reprovados BIGINT NOT NULL,
+    data_envio TIMESTAMP(6) NOT NULL,
+    data_ultima_transicao TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_tempo_etapa_diario (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dia DATE NOT NULL,
+    etapa VARCHAR(255) NOT NULL,
+    quantidade BIGINT NOT NULL,
+    soma_segundos BIGINT NOT NULL,
+    maximo_segundos BIGINT NOT NULL,
+    histograma BYTEA,
+    CONSTRAINT uk_tempo_etapa_diario UNIQUE (dia, etapa)
+);
+
+CREATE TABLE IF NOT EXISTS tb_usuario_produtividade (
+    usuario_id BIGINT PRIMARY KEY,
+    itens_em_posse BIGINT NOT NULL,
+    semana_referencia DATE NOT NULL,
+    concluidos_semana BIGINT NOT NULL,
+    concluidos_total BIGINT NOT NULL,
+    atendimentos_medidos BIGINT NOT NULL,
+    soma_segundos_atendimento BIGINT NOT NULL,
+    aprovados BIGINT NOT NULL,
+    reprovados BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_usuario_email ON tb_usuario (email);
+
+CREATE INDEX IF NOT EXISTS idx_roteiros_hash_normalizado ON tb_roteiros (hash_normalizado);
+
+CREATE INDEX IF NOT EXISTS idx_roteiros_cliente ON tb_roteiros (cliente_id, data_envio);
+
+CREATE INDEX IF NOT EXISTS idx_votacao_roteiro ON tb_votacao (roteiro_id);
+
+CREATE INDEX IF NOT EXISTS idx_roteiro_etapas_roteiro ON tb_roteiro_etapas (roteiro_id, data_saida);
+
+CREATE INDEX IF NOT EXISTS idx_roteiro_resumo_status ON tb_roteiro_resumo (status, data_envio);
+
+CREATE INDEX IF NOT EXISTS idx_roteiro_resumo_responsavel ON tb_roteiro_resumo (responsavel_email);
+
+CREATE INDEX IF NOT EXISTS idx_roteiro_resumo_data_envio ON tb_roteiro_resumo (data_envio);
@@ -0,0 +1,8 @@
+ALTER TABLE tb_roteiros ADD COLUMN IF NOT EXISTS documento_busca tsvector;
+
+CREATE INDEX IF NOT EXISTS idx_roteiros_documento_busca ON tb_roteiros USING GIN (documento_busca);
+
+UPDATE tb_roteiros
+SET documento_busca = setweight(to_tsvector('portuguese', titulo), 'A')
+        || setweight(to_tsvector('portuguese', conteudo), 'B')
+WHERE documento_busca IS NULL AND conteudo IS NOT NULL;
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS tb_roteiros_arquivo (LIKE tb_roteiros INCLUDING DEFAULTS, PRIMARY KEY (id));
+
+CREATE INDEX IF NOT EXISTS idx_roteiros_arquivo_cliente ON tb_roteiros_arquivo (cliente_id, data_envio);
+
+CREATE TABLE IF NOT EXISTS tb_votacao_arquivo (LIKE tb_votacao INCLUDING DEFAULTS, PRIMARY KEY (id));
+
+CREATE INDEX IF NOT EXISTS idx_votacao_arquivo_roteiro ON tb_votacao_arquivo (roteiro_id);
+
+CREATE INDEX IF NOT EXISTS idx_roteiros_finalizados ON tb_roteiros (data_envio) WHERE status IN ('APROVADO', 'RECUSADO');
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_roteiros_arquivo_hash_normalizado ON tb_roteiros_arquivo (hash_normalizado);
@@ -0,0 +1,162 @@
+package com.application.cooperfilme.config;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.model.dto.UsuarioDTO;
+import com.application.cooperfilme.model.entity.RoteiroResumo;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.service.RoteiroService;
+import com.application.cooperfilme.service.UsuarioService;
+import com.application.cooperfilme.service.security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "api.datasource.replicas.urls=${spring.datasource.url}?currentSchema=" + ReplicasLeituraIntegracaoTests.ESQUEMA_REPLICA + "%2Cpublic",
+        "spring.jpa.open-in-view=true"
+})
+class ReplicasLeituraIntegracaoTests {
+
+    static final String ESQUEMA_REPLICA = "teste_replica_leitura";
+    private static final String TITULO_REPLICA = "Somente na réplica";
+    private static final String SENHA = "replica-123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoteiroService roteiroService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate primario;
+    private Usuario usuario;
+
+    @BeforeAll
+    void prepararReplica() {
+        primario = new JdbcTemplate(dataSource);
+        primario.execute("DROP SCHEMA IF EXISTS " + ESQUEMA_REPLICA + " CASCADE");
+        primario.execute("CREATE SCHEMA " + ESQUEMA_REPLICA);
+        primario.execute("CREATE TABLE " + ESQUEMA_REPLICA + ".tb_roteiro_resumo (LIKE tb_roteiro_resumo INCLUDING ALL)");
+        primario.update("INSERT INTO " + ESQUEMA_REPLICA + ".tb_roteiro_resumo (roteiro_id, titulo, status, cliente_id, "
+                + "votos_aprovados, votos_reprovados, data_envio, data_ultima_transicao) "
+                + "VALUES (-1, ?, 'AGUARDANDO_ANALISE', -1, 0, 0, now(), now())", TITULO_REPLICA);
+
+        String sufixo = Long.toString(System.nanoTime(), 36);
+        usuario = usuarioService.salvar(new UsuarioDTO(
+                "Réplica", "replica-" + sufixo + "@teste.local", SENHA, SENHA, Cargo.ANALISTA));
+    }
+
+    @AfterAll
+    void removerReplica() {
+        primario.execute("DROP SCHEMA IF EXISTS " + ESQUEMA_REPLICA + " CASCADE");
+        primario.update("DELETE FROM tb_usuario WHERE id = ?", usuario.getId());
+    }
+
+    @BeforeEach
+    void novaRequisicao() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @Test
+    void transacaoSomenteLeituraVaiParaReplica() {
+        double leiturasAntes = leituras("replica");
+
+        List<String> titulos = titulos(roteiroService.listarRoteiros());
+
+        assertEquals(List.of(TITULO_REPLICA), titulos);
+        assertEquals(leiturasAntes + 1, leituras("replica"));
+    }
+
+    @Test
+    void escritaAposLeituraNaMesmaRequisicaoUsaPrimario() throws Exception {
+        mockMvc.perform(get("/teste/replicas/ler-escrever-ler")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(usuario)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.leituraInicial[0]").value(TITULO_REPLICA))
+                .andExpect(jsonPath("$.esquemaEscrita").value("public"))
+                .andExpect(jsonPath("$.leituraFinal[?(@ == '" + TITULO_REPLICA + "')]").isEmpty());
+    }
+
+    private double leituras(String destino) {
+        return meterRegistry.get("cooperfilme.datasource.leituras").tag("destino", destino).counter().count();
+    }
+
+    private static List<String> titulos(List<RoteiroResumo> roteiros) {
+        return roteiros.stream().map(RoteiroResumo::getTitulo).toList();
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+
+        @RestController
+        static class LeituraEscritaController {
+
+            private final RoteiroService roteiroService;
+            private final EntityManager entityManager;
+            private final TransactionTemplate escrita;
+
+            LeituraEscritaController(RoteiroService roteiroService, EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager) {
+                this.roteiroService = roteiroService;
+                this.entityManager = entityManager;
+                this.escrita = new TransactionTemplate(transactionManager);
+            }
+
+            @GetMapping("/teste/replicas/ler-escrever-ler")
+            Map<String, Object> lerEscreverLer() {
+                List<String> leituraInicial = titulos(roteiroService.listarRoteiros());
+                String esquemaEscrita = escrita.execute(status -> {
+                    entityManager.createNativeQuery("UPDATE tb_roteiro_resumo SET titulo = titulo WHERE roteiro_id = -1")
+                            .executeUpdate();
+                    return (String) entityManager.createNativeQuery("SELECT current_schema()").getSingleResult();
+                });
+                List<String> leituraFinal = titulos(roteiroService.listarRoteiros());
+                return Map.of("leituraInicial", leituraInicial, "esquemaEscrita", esquemaEscrita, "leituraFinal", leituraFinal);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.application.cooperfilme.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicasLeituraTests {
+
+    private final DataSource primario = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection conexaoPrimario = mock(Connection.class);
+    private final Connection conexaoReplica = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicasLeitura replicasLeitura;
+
+    @BeforeEach
+    void preparar() throws SQLException {
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+        replicasLeitura = new ReplicasLeitura(primario, Map.of("replica-1", replica), Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void limpar() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void leituraVaiParaReplica() throws SQLException {
+        assertSame(conexaoReplica, replicasLeitura.getConnection());
+        assertEquals(1.0, meterRegistry.get("cooperfilme.datasource.leituras").tag("destino", "replica").counter().count());
+    }
+
+    @Test
+    void replicaInacessivelCaiNoPrimario() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("conexão recusada"));
+
+        assertSame(conexaoPrimario, replicasLeitura.getConnection());
+        assertEquals(0.0, meterRegistry.get("cooperfilme.datasource.replica.disponivel").gauge().value());
+    }
+
+    @Test
+    void leituraAposEscritaNaMesmaRequisicaoVaiParaPrimario() throws SQLException {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertSame(conexaoReplica, replicasLeitura.getConnection());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertSame(conexaoPrimario, replicasLeitura.escrita().getConnection());
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        assertSame(conexaoPrimario, replicasLeitura.getConnection());
+    }
+
+    @Test
+    void consultaForaDeTransacaoNoPrimarioNaoDesviaLeituras() throws SQLException {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertSame(conexaoPrimario, replicasLeitura.escrita().getConnection());
+        assertSame(conexaoReplica, replicasLeitura.getConnection());
+    }
+}
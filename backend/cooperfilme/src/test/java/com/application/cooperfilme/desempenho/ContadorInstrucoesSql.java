@@ -0,0 +1,25 @@
+package com.application.cooperfilme.desempenho;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ContadorInstrucoesSql implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> INSTRUCOES = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        INSTRUCOES.get().add(sql);
+        return sql;
+    }
+
+    static void reiniciar() {
+        INSTRUCOES.get().clear();
+    }
+
+    static List<String> capturadas() {
+        return List.copyOf(INSTRUCOES.get());
+    }
+}
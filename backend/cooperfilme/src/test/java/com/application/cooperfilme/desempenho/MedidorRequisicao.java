@@ -0,0 +1,42 @@
+package com.application.cooperfilme.desempenho;
+
+import com.sun.management.ThreadMXBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+final class MedidorRequisicao {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    record Medicao(int status, List<String> instrucoes, long bytesAlocados, long nanos) {
+
+        String descreverInstrucoes() {
+            return instrucoes.size() + " instruções:\n  " + String.join("\n  ", instrucoes);
+        }
+    }
+
+    private MedidorRequisicao() {
+    }
+
+    static Medicao medir(MockMvc mockMvc, RequestBuilder requisicao) throws Exception {
+        ContadorInstrucoesSql.reiniciar();
+        long bytesAntes = THREADS.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+
+        MvcResult resultado = mockMvc.perform(requisicao).andReturn();
+
+        long nanos = System.nanoTime() - inicio;
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesAntes;
+        return new Medicao(resultado.getResponse().getStatus(), ContadorInstrucoesSql.capturadas(), bytes, nanos);
+    }
+
+    static long mediana(List<Medicao> medicoes, ToLongFunction<Medicao> valor) {
+        long[] valores = medicoes.stream().mapToLong(valor).sorted().toArray();
+        return valores[valores.length / 2];
+    }
+}
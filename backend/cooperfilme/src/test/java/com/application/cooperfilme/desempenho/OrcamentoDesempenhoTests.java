@@ -0,0 +1,251 @@
+package com.application.cooperfilme.desempenho;
+
+import com.application.cooperfilme.desempenho.MedidorRequisicao.Medicao;
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.AnaliseDTO;
+import com.application.cooperfilme.model.dto.RevisaoDTO;
+import com.application.cooperfilme.model.dto.RoteiroDTO;
+import com.application.cooperfilme.model.dto.UsuarioDTO;
+import com.application.cooperfilme.model.entity.Cliente;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.repository.ClienteRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import com.application.cooperfilme.service.ProjecaoRoteiroService;
+import com.application.cooperfilme.service.RoteiroService;
+import com.application.cooperfilme.service.UsuarioService;
+import com.application.cooperfilme.service.security.TokenService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.application.cooperfilme.desempenho.ContadorInstrucoesSql",
+        "spring.jpa.show-sql=false"
+})
+class OrcamentoDesempenhoTests {
+
+    private static final String SENHA = "orcamento-123";
+    private static final int ROTEIROS_LISTADOS = 100;
+    private static final int ROTEIROS_EM_VOTACAO = 5;
+    private static final int AQUECIMENTO = 3;
+    private static final int REPETICOES = 21;
+
+    private static final int MAXIMO_INSTRUCOES_LISTAGEM = 2;
+    private static final int MAXIMO_INSTRUCOES_DETALHE = 2;
+    private static final int MAXIMO_INSTRUCOES_PORTAL = 0;
+    private static final int MAXIMO_INSTRUCOES_VOTO = 8;
+
+    private static final long MAXIMO_BYTES_LISTAGEM = 16L * 1024 * 1024;
+    private static final long MAXIMO_BYTES_DETALHE = 4L * 1024 * 1024;
+    private static final long MAXIMO_BYTES_PORTAL = 2L * 1024 * 1024;
+    private static final long MAXIMO_BYTES_VOTO = 8L * 1024 * 1024;
+
+    private static final Duration MAXIMA_LATENCIA_LISTAGEM = Duration.ofMillis(150);
+    private static final Duration MAXIMA_LATENCIA_DETALHE = Duration.ofMillis(50);
+    private static final Duration MAXIMA_LATENCIA_PORTAL = Duration.ofMillis(30);
+    private static final Duration MAXIMA_LATENCIA_VOTO = Duration.ofMillis(300);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private RoteiroService roteiroService;
+
+    @Autowired
+    private ProjecaoRoteiroService projecaoRoteiroService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RoteiroRepository roteiroRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Usuario analista;
+    private Usuario revisor;
+    private Usuario aprovador;
+    private String tokenAnalista;
+    private String tokenAprovador;
+    private String emailClienteListagem;
+    private String emailClienteVotacao;
+    private Long roteiroListado;
+    private final List<Long> roteirosEmVotacao = new ArrayList<>();
+
+    @BeforeAll
+    void prepararDados() {
+        String sufixo = Long.toString(System.nanoTime(), 36);
+        analista = cadastrar("analista", sufixo, Cargo.ANALISTA);
+        revisor = cadastrar("revisor", sufixo, Cargo.REVISOR);
+        aprovador = cadastrar("aprovador", sufixo, Cargo.APROVADOR);
+        tokenAnalista = tokenService.generateToken(analista);
+        tokenAprovador = tokenService.generateToken(aprovador);
+
+        emailClienteListagem = "listagem-" + sufixo + "@teste.local";
+        Cliente cliente = clienteRepository.save(new Cliente("Cliente Listagem", emailClienteListagem, "11999999999"));
+        List<Roteiro> roteiros = roteiroRepository.saveAll(IntStream.range(0, ROTEIROS_LISTADOS)
+                .mapToObj(i -> {
+                    Roteiro roteiro = new Roteiro("Roteiro listado " + i, "Conteúdo do roteiro listado " + i, cliente, analista);
+                    roteiro.setStatus(StatusRoteiro.EM_ANALISE);
+                    return roteiro;
+                })
+                .toList());
+        roteiroListado = roteiros.get(0).getId();
+        projecaoRoteiroService.reconstruir();
+
+        emailClienteVotacao = "votacao-" + sufixo + "@teste.local";
+        for (int i = 0; i < ROTEIROS_EM_VOTACAO; i++) {
+            Roteiro roteiro = roteiroService.enviarRoteiro(new RoteiroDTO(
+                    "Roteiro em votação " + i,
+                    "INT. SALA - DIA\n\nRoteiro " + sufixo + " número " + i + " aguardando votação.",
+                    "Cliente Votação",
+                    emailClienteVotacao,
+                    "11999999999"));
+            roteiroService.assumirAnalise(roteiro.getId(), analista.getId(), null);
+            roteiroService.analisarRoteiro(roteiro.getId(), analista.getId(), new AnaliseDTO("Apto", true), null);
+            roteiroService.assumirRevisao(roteiro.getId(), revisor.getId(), null);
+            roteiroService.revisarRoteiro(roteiro.getId(), revisor.getId(), new RevisaoDTO("Revisado"), null);
+            roteirosEmVotacao.add(roteiro.getId());
+        }
+    }
+
+    @AfterAll
+    void removerDados() {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("emails", List.of(emailClienteListagem, emailClienteVotacao))
+                .addValue("usuarios", List.of(analista.getId(), revisor.getId(), aprovador.getId()));
+        String roteiros = "SELECT r.id FROM tb_roteiros r JOIN tb_cliente c ON c.id = r.cliente_id WHERE c.email IN (:emails)";
+
+        for (String tabela : List.of("tb_votacao", "tb_roteiro_versoes", "tb_roteiro_falas", "tb_roteiro_estrutura",
+                "tb_roteiro_etapas", "tb_roteiro_resumo")) {
+            jdbcTemplate.update("DELETE FROM " + tabela + " WHERE roteiro_id IN (" + roteiros + ")", parametros);
+        }
+        jdbcTemplate.update("DELETE FROM tb_roteiros WHERE id IN (" + roteiros + ")", parametros);
+        jdbcTemplate.update("DELETE FROM tb_cliente WHERE email IN (:emails)", parametros);
+        jdbcTemplate.update("DELETE FROM tb_usuario_produtividade WHERE usuario_id IN (:usuarios)", parametros);
+        jdbcTemplate.update("DELETE FROM tb_usuario WHERE id IN (:usuarios)", parametros);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void listagemDeCemRoteirosRespeitaOrcamento() throws Exception {
+        RequestBuilder requisicao = get("/roteiros")
+                .param("emailUsuario", analista.getEmail())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenAnalista);
+        mockMvc.perform(requisicao).andExpect(jsonPath("$.length()").value(ROTEIROS_LISTADOS));
+
+        verificarOrcamento(repetir(requisicao),
+                MAXIMO_INSTRUCOES_LISTAGEM, MAXIMO_BYTES_LISTAGEM, MAXIMA_LATENCIA_LISTAGEM);
+    }
+
+    @Test
+    void detalheDeRoteiroRespeitaOrcamento() throws Exception {
+        RequestBuilder requisicao = get("/roteiros/{id}", roteiroListado)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenAnalista);
+
+        verificarOrcamento(repetir(requisicao),
+                MAXIMO_INSTRUCOES_DETALHE, MAXIMO_BYTES_DETALHE, MAXIMA_LATENCIA_DETALHE);
+    }
+
+    @Test
+    void portalDoClienteEmCacheNaoConsultaBanco() throws Exception {
+        RequestBuilder requisicao = get("/clientes/email/{email}", emailClienteVotacao);
+
+        verificarOrcamento(repetir(requisicao),
+                MAXIMO_INSTRUCOES_PORTAL, MAXIMO_BYTES_PORTAL, MAXIMA_LATENCIA_PORTAL);
+    }
+
+    @Test
+    void votoRespeitaOrcamento() throws Exception {
+        List<Medicao> medicoes = new ArrayList<>();
+        for (Long roteiroId : roteirosEmVotacao) {
+            mockMvc.perform(get("/roteiros/{id}", roteiroId)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenAprovador));
+
+            medicoes.add(MedidorRequisicao.medir(mockMvc, post("/roteiros/votar/{id}/{usuarioId}", roteiroId, aprovador.getId())
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenAprovador)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"aprovado\":true,\"justificativa\":\"Aprovado\"}")));
+        }
+
+        verificarOrcamento(medicoes, MAXIMO_INSTRUCOES_VOTO, MAXIMO_BYTES_VOTO, MAXIMA_LATENCIA_VOTO);
+
+        List<Long> divergentes = projecaoRoteiroService.verificar().roteiroIds();
+        assertTrue(Collections.disjoint(divergentes, roteirosEmVotacao),
+                () -> "Projeção divergente após a votação: " + divergentes);
+    }
+
+    private List<Medicao> repetir(RequestBuilder requisicao) throws Exception {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            mockMvc.perform(requisicao);
+        }
+        List<Medicao> medicoes = new ArrayList<>();
+        for (int i = 0; i < REPETICOES; i++) {
+            medicoes.add(MedidorRequisicao.medir(mockMvc, requisicao));
+        }
+        return medicoes;
+    }
+
+    private void verificarOrcamento(List<Medicao> medicoes, int maximoInstrucoes, long maximoBytes, Duration maximaLatencia) {
+        for (Medicao medicao : medicoes) {
+            assertEquals(200, medicao.status());
+            assertTrue(medicao.instrucoes().size() <= maximoInstrucoes,
+                    () -> "Orçamento de " + maximoInstrucoes + " instruções SQL excedido com " + medicao.descreverInstrucoes());
+        }
+
+        long bytes = MedidorRequisicao.mediana(medicoes, Medicao::bytesAlocados);
+        assertTrue(bytes <= maximoBytes,
+                () -> "Mediana de alocação de " + bytes + " bytes excede o orçamento de " + maximoBytes);
+
+        long nanos = MedidorRequisicao.mediana(medicoes, Medicao::nanos);
+        assertTrue(nanos <= maximaLatencia.toNanos(),
+                () -> "Mediana de latência de " + Duration.ofNanos(nanos).toMillis() + " ms excede o orçamento de "
+                        + maximaLatencia.toMillis() + " ms");
+    }
+
+    private Usuario cadastrar(String papel, String sufixo, Cargo cargo) {
+        return usuarioService.salvar(new UsuarioDTO(
+                "Orçamento " + papel, papel + "-" + sufixo + "@teste.local", SENHA, SENHA, cargo));
+    }
+}
@@ -0,0 +1,103 @@
+package com.application.cooperfilme.service;
+
+import com.application.cooperfilme.enums.Cargo;
+import com.application.cooperfilme.enums.StatusRoteiro;
+import com.application.cooperfilme.model.dto.ClienteRespostaDTO;
+import com.application.cooperfilme.model.dto.RoteiroRespostaDTO;
+import com.application.cooperfilme.model.dto.UsuarioDTO;
+import com.application.cooperfilme.model.entity.Cliente;
+import com.application.cooperfilme.model.entity.Roteiro;
+import com.application.cooperfilme.model.entity.RoteiroArquivado;
+import com.application.cooperfilme.model.entity.RoteiroBase;
+import com.application.cooperfilme.model.entity.Usuario;
+import com.application.cooperfilme.model.entity.Votacao;
+import com.application.cooperfilme.repository.ClienteRepository;
+import com.application.cooperfilme.repository.RoteiroArquivadoRepository;
+import com.application.cooperfilme.repository.RoteiroRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.schema=teste_arquivamento",
+        "spring.flyway.schemas=teste_arquivamento",
+        "spring.flyway.default-schema=teste_arquivamento"
+})
+class ArquivamentoServiceTests {
+
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+
+    @Autowired
+    private RoteiroService roteiroService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RoteiroRepository roteiroRepository;
+
+    @Autowired
+    private RoteiroArquivadoRepository roteiroArquivadoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void roteiroFinalizadoAntigoSaiDaTabelaAtivaMasContinuaConsultavel() {
+        String sufixo = Long.toString(System.nanoTime(), 36);
+        String email = "arquivo-" + sufixo + "@teste.local";
+        Cliente cliente = clienteRepository.save(new Cliente("Cliente Arquivo", email, "11999999999"));
+        Usuario aprovador = usuarioService.salvar(new UsuarioDTO(
+                "Aprovador arquivo", "aprovador-" + sufixo + "@teste.local", "arquivo-123", "arquivo-123", Cargo.APROVADOR));
+
+        Roteiro antigo = new Roteiro("Roteiro antigo", "Conteúdo antigo", cliente);
+        antigo.setStatus(StatusRoteiro.APROVADO);
+        antigo.setDataEnvio(LocalDateTime.now().minusDays(400));
+        antigo.getVotacoes().add(new Votacao(antigo, aprovador, true, "Aprovado"));
+        Long antigoId = roteiroRepository.save(antigo).getId();
+
+        Roteiro recente = new Roteiro("Roteiro recente", "Conteúdo recente", cliente);
+        recente.setStatus(StatusRoteiro.APROVADO);
+        Long recenteId = roteiroRepository.save(recente).getId();
+
+        assertTrue(arquivamentoService.arquivar() >= 1);
+
+        assertFalse(roteiroRepository.existsById(antigoId));
+        assertTrue(roteiroRepository.existsById(recenteId));
+
+        RoteiroBase arquivado = roteiroService.buscarRoteiro(antigoId);
+        assertInstanceOf(RoteiroArquivado.class, arquivado);
+        assertEquals("Roteiro antigo", arquivado.getTitulo());
+        assertEquals(StatusRoteiro.APROVADO, arquivado.getStatus());
+        assertEquals(arquivado.getVersao(), roteiroService.buscarVersao(antigoId));
+        Integer votosArquivados = new TransactionTemplate(transactionManager).execute(status ->
+                roteiroArquivadoRepository.findById(antigoId).orElseThrow().getVotacoes().size());
+        assertEquals(1, votosArquivados);
+
+        ClienteRespostaDTO portal = clienteService.buscarPorEmail(email);
+        assertEquals(2, portal.roteiros().size());
+        RoteiroRespostaDTO primeiro = portal.roteiros().get(0);
+        assertEquals(antigoId, primeiro.id());
+        assertEquals(StatusRoteiro.APROVADO.name(), primeiro.status());
+    }
+}
@@ -0,0 +1,62 @@
+package com.application.cooperfilme.service.Impl;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiferencaLinhasTests {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final long MAXIMO_BYTES_COMPARACAO = 32L * 1024 * 1024;
+
+    @Test
+    void diferencaReconstroiVersaoDestino() {
+        List<String> origem = DiferencaLinhas.dividir("INT. CASA - DIA\nJoão entra.\nMaria sai.\nFIM\n");
+        List<String> destino = DiferencaLinhas.dividir("INT. CASA - NOITE\nJoão entra.\nPedro chega.\nMaria sai.\n");
+
+        List<DiferencaLinhas.Operacao> operacoes = DiferencaLinhas.calcular(origem, destino, 10);
+
+        assertNotNull(operacoes);
+        assertEquals(destino, DiferencaLinhas.aplicar(origem, DiferencaLinhas.decodificar(DiferencaLinhas.codificar(operacoes))));
+    }
+
+    @Test
+    void versoesGrandesSemRelacaoSaoComparadasComMemoriaLimitada() {
+        int linhas = VersaoRoteiroServiceImpl.MAXIMO_EDICOES_COMPARACAO / 2;
+        List<String> origem = gerar("Cena original ", linhas);
+        List<String> destino = gerar("Cena reescrita ", linhas);
+
+        long bytesAntes = THREADS.getCurrentThreadAllocatedBytes();
+        List<DiferencaLinhas.Operacao> operacoes =
+                DiferencaLinhas.calcular(origem, destino, VersaoRoteiroServiceImpl.MAXIMO_EDICOES_COMPARACAO);
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesAntes;
+
+        assertNotNull(operacoes);
+        assertEquals(destino, DiferencaLinhas.aplicar(origem, operacoes));
+        assertTrue(bytes < MAXIMO_BYTES_COMPARACAO, "Comparação alocou " + bytes + " bytes");
+    }
+
+    @Test
+    void comparacaoAcimaDoLimiteDeEdicoesEhRecusada() {
+        int linhas = VersaoRoteiroServiceImpl.MAXIMO_EDICOES_COMPARACAO / 2 + 1;
+
+        assertNull(DiferencaLinhas.calcular(gerar("Cena original ", linhas), gerar("Cena reescrita ", linhas),
+                VersaoRoteiroServiceImpl.MAXIMO_EDICOES_COMPARACAO));
+    }
+
+    private List<String> gerar(String prefixo, int quantidade) {
+        List<String> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            linhas.add(prefixo + i + "\n");
+        }
+        return linhas;
+    }
+}
@@ -0,0 +1,66 @@
+package com.application.cooperfilme.service.Impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JanelaDeslizanteTests {
+
+    private static final int SEGUNDOS = 60;
+    private static final int THREADS = 8;
+    private static final int REGISTROS_POR_THREAD = 50;
+    private static final int RODADAS = 2_000;
+
+    @Test
+    void somaApenasOsSegundosDaJanela() {
+        JanelaDeslizante janela = new JanelaDeslizante(SEGUNDOS);
+        long agora = 1_760_000_000_500L;
+
+        janela.registrar(agora - 61_000);
+        janela.registrar(agora - 30_000);
+        janela.registrar(agora - 400);
+        janela.registrar(agora);
+
+        assertEquals(3, janela.somar(agora, SEGUNDOS));
+        assertEquals(2, janela.somar(agora, 1));
+    }
+
+    @Test
+    void viradaDoSegundoNaoPerdeRegistrosConcorrentes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long inicio = 1_760_000_000_000L;
+            for (int rodada = 1; rodada <= RODADAS; rodada++) {
+                JanelaDeslizante janela = new JanelaDeslizante(SEGUNDOS);
+                janela.registrar(inicio);
+                long mesmaPosicao = inicio + rodada * SEGUNDOS * 1000L;
+
+                CyclicBarrier largada = new CyclicBarrier(THREADS);
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        for (int i = 0; i < REGISTROS_POR_THREAD; i++) {
+                            janela.registrar(mesmaPosicao);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get();
+                }
+
+                assertEquals((long) THREADS * REGISTROS_POR_THREAD, janela.somar(mesmaPosicao, SEGUNDOS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
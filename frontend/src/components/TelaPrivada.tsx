@@ -48,12 +48,12 @@ export function TelaPrivada({ userRole, onLogout, onViewScript }: DashboardProps
       try {
         const data = await roteiroService.listar();
         const mapped = data.map((r: any) => ({
-          id: r.id,
+          id: r.roteiroId,
           title: r.titulo,
-          author: r.cliente.nome,
+          author: r.clienteNome,
           status: r.status,
-          assignedTo: r.usuarioResponsavel?.nome || null,
-          submittedDate: r.dataEnvio || r.dataRegistro || new Date().toISOString(),
+          assignedTo: r.responsavelNome || null,
+          submittedDate: r.dataEnvio || new Date().toISOString(),
         }));
         setScripts(mapped);
       } catch (e) {
@@ -1,6 +1,6 @@
 import axios from 'axios';
 import type { UsuarioDTO, UsuarioRespostaDTO, LoginDTO, AutenticacaoDTO, RoteiroDTO, 
-RoteiroResponse, AnaliseDTO, RevisaoDTO, VotoDTO } from './types';
+RoteiroResponse, RoteiroResumo, AnaliseDTO, RevisaoDTO, VotoDTO } from './types';
 
 
 const api = axios.create({
@@ -99,8 +99,8 @@ export const roteiroService = {
     const { data } = await api.get<RoteiroResponse>(`/roteiros/${id}`);
     return data;
   },
-  listar: async (): Promise<RoteiroResponse[]> => {
-    const { data } = await api.get<RoteiroResponse[]>('/roteiros/listar-todos');
+  listar: async (): Promise<RoteiroResumo[]> => {
+    const { data } = await api.get<RoteiroResumo[]>('/roteiros/listar-todos');
     return data;
   }
 };
@@ -47,6 +47,22 @@ export interface RoteiroResponse {
   usuarioResponsavel?: UsuarioRespostaDTO;
 }
 
+export interface RoteiroResumo {
+  roteiroId: number;
+  titulo: string;
+  status: string;
+  clienteId: number;
+  clienteNome: string;
+  clienteEmail: string;
+  responsavelId?: number;
+  responsavelNome?: string;
+  responsavelEmail?: string;
+  votosAprovados: number;
+  votosReprovados: number;
+  dataEnvio: string;
+  dataUltimaTransicao: string;
+}
+
 export interface AnaliseDTO {
   justificativa: string;
   apto: boolean;